@@ -0,0 +1,45 @@
+-- Moves entity ids from AUTO_INCREMENT to the pooled id_generators table.
+-- Safe to run more than once; re-run after loading any seed script so the
+-- generators start above the highest existing id.
+USE jobportal;
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+-- Keep AUTO_INCREMENT on the id columns so the seed scripts, which omit ids,
+-- still work on schemas created by Hibernate.
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE applicant_accounts MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE employer_accounts MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE jobs MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE job_applications MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE notifications MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE password_reset_tokens MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+SET FOREIGN_KEY_CHECKS = 1;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'applicant_accounts', COALESCE(MAX(id), 0) + 1 FROM applicant_accounts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'employer_accounts', COALESCE(MAX(id), 0) + 1 FROM employer_accounts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'jobs', COALESCE(MAX(id), 0) + 1 FROM jobs
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'job_applications', COALESCE(MAX(id), 0) + 1 FROM job_applications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(id), 0) + 1 FROM notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'password_reset_tokens', COALESCE(MAX(id), 0) + 1 FROM password_reset_tokens
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
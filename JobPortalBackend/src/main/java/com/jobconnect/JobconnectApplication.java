@@ -1,9 +1,12 @@
 package com.jobconnect;
 
+import com.jobconnect.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class JobconnectApplication {
     public static void main(String[] args) {
         SpringApplication.run(JobconnectApplication.class, args);
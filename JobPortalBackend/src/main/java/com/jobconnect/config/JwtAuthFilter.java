@@ -1,5 +1,7 @@
 package com.jobconnect.config;
 
+import com.jobconnect.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,10 +19,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, TokenRevocationList revocationList) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -35,7 +39,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        String email = jwtUtil.validateAndGetEmail(token);
+        Claims claims = jwtUtil.parseClaims(token);
+        String email = claims.getSubject();
+
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0;
+
+        // A logged-out token is treated like no token at all
+        if (revocationList.isRevoked(claims.getId(), email, issuedAt)) {
+            chain.doFilter(req, res);
+            return;
+        }
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails user = userDetailsService.loadUserByUsername(email);
@@ -1,11 +1,14 @@
 package com.jobconnect.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -16,9 +19,10 @@ public class JwtUtil {
     // Token validity: 24 hours
     private final long EXPIRATION_TIME = 1000 * 60 * 60 * 24;
 
-    // ✅ Generate Token (email + role inside Claims)
+    // ✅ Generate Token (email + role inside Claims, plus a unique id so it can be revoked)
     public String generateToken(String email, String role) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("role", role)
                 .setIssuedAt(new Date())
@@ -27,12 +31,16 @@ public class JwtUtil {
                 .compact();
     }
 
-    // ✅ Extract Email from Token
-    public String validateAndGetEmail(String token) {
+    // ✅ Verify Token and return its Claims (email is the subject)
+    public Claims parseClaims(String token) {
         return Jwts.parser()
                 .setSigningKey(secretKey)
                 .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+                .getBody();
+    }
+
+    // ✅ How long a new token stays valid
+    public Duration getTokenLifetime() {
+        return Duration.ofMillis(EXPIRATION_TIME);
     }
 }
@@ -0,0 +1,33 @@
+package com.jobconnect.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reflection the native image cannot discover on its own: jjwt creates its
+ * builder, parser and Jackson (de)serializers by class name, and the JCache
+ * provider for the Hibernate cache regions is looked up by class name.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] REFLECTIVE_TYPES = {
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParser",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.DefaultClaims",
+        "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : REFLECTIVE_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
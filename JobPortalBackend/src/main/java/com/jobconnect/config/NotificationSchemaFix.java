@@ -1,23 +0,0 @@
-package com.jobconnect.config;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor
-public class NotificationSchemaFix implements CommandLineRunner {
-
-    private final JdbcTemplate jdbcTemplate;
-
-    @Override
-    public void run(String... args) {
-        try {
-            jdbcTemplate.execute("ALTER TABLE notifications MODIFY COLUMN user_id BIGINT NULL");
-        } catch (DataAccessException ignored) {
-            // Column may already be removed or nullable; ignore in that case.
-        }
-    }
-}
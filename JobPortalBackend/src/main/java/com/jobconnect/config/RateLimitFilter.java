@@ -0,0 +1,89 @@
+package com.jobconnect.config;
+
+import com.jobconnect.security.RateLimitExceededException;
+import com.jobconnect.security.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the route rate limits declared in {@link SecurityConfig} before a
+ * request reaches authentication or any controller. Every matching rule must
+ * grant a token; the first empty bucket answers {@code 429 Too Many Requests}
+ * with a {@code Retry-After} header.
+ *
+ * <p>Not a {@code @Component}: it is only added to the security chain, never
+ * registered as a servlet filter of its own.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final List<Rule> rules = new ArrayList<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /** Whether a rule's bucket is shared by every client or kept per client address. */
+    public enum Scope {
+        CLIENT_IP,
+        ROUTE
+    }
+
+    private record Rule(HttpMethod method, String pattern, Scope scope, RateLimiter.Limit limit) {
+
+        boolean matches(HttpServletRequest request, String path) {
+            return (method == null || method.matches(request.getMethod())) && PATHS.match(pattern, path);
+        }
+    }
+
+    /** Limits {@code method} requests to paths matching {@code pattern}; a null method matches any. */
+    public RateLimitFilter limit(HttpMethod method, String pattern, Scope scope, RateLimiter.Limit limit) {
+        rules.add(new Rule(method, pattern, scope, limit));
+        return this;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        if (HttpMethod.OPTIONS.matches(req.getMethod())) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        for (Rule rule : rules) {
+            if (!rule.matches(req, path)) {
+                continue;
+            }
+            String key = rule.scope() == Scope.CLIENT_IP ? req.getRemoteAddr() : rule.pattern();
+            Duration wait = rateLimiter.tryAcquire(rule.limit(), key);
+            if (!wait.isZero()) {
+                reject(res, new RateLimitExceededException("Too many requests. Please try again later.", wait));
+                return;
+            }
+        }
+
+        chain.doFilter(req, res);
+    }
+
+    private static void reject(HttpServletResponse res, RateLimitExceededException e) throws IOException {
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.getWriter().write("{\"error\":\"" + e.getMessage() + "\"}");
+    }
+}
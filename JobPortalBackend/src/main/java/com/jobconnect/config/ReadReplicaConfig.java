@@ -0,0 +1,82 @@
+package com.jobconnect.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Active only when at least one replica is configured; otherwise Spring Boot's
+ * single primary DataSource is used unchanged.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "jobconnect.datasource", name = "replicas[0].url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public RecentWriteTracker recentWriteTracker(ReadReplicaProperties properties) {
+        return new RecentWriteTracker(properties.getReadYourWritesWindow().toMillis());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer writeStatementInspector(RecentWriteTracker recentWriteTracker) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+            new WriteStatementInspector(recentWriteTracker));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             ReadReplicaProperties properties,
+                                                             RecentWriteTracker recentWriteTracker) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary, buildReplicas(properties), recentWriteTracker, properties.getMaxLag().toMillis());
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               RecentWriteTracker recentWriteTracker) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, replicaRoutingDataSource.getReplicas(),
+            recentWriteTracker);
+    }
+
+    private List<DataSource> buildReplicas(ReadReplicaProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return replicas;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobconnect.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "jobconnect.datasource")
+public class ReadReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind than this are skipped until they catch up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // How long a user's reads stay on the primary after they write
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobconnect.config;
+
+import com.jobconnect.security.AccountPrincipal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers when each signed-in account last wrote, so their reads can stay
+ * on the primary until the replicas have had time to catch up. A write
+ * counts once the transaction that made it commits; transactions that only
+ * read, or that roll back, do not pin the account to the primary.
+ */
+public class RecentWriteTracker {
+
+    private final long windowMillis;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public RecentWriteTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Notes that the current transaction has written, recording the account's
+     * write when it commits. Outside a transaction the statement commits on
+     * its own, so the write is recorded right away.
+     */
+    public void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(RecentWriteTracker.this);
+            }
+        });
+    }
+
+    private void recordWrite() {
+        String account = currentAccount();
+        if (account != null) {
+            lastWriteAt.put(account, System.currentTimeMillis());
+        }
+    }
+
+    public boolean wroteRecently() {
+        String account = currentAccount();
+        if (account == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(account);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < windowMillis;
+    }
+
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    private String currentAccount() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof AccountPrincipal principal)) {
+            return null;
+        }
+        return principal.getRole().name() + ":" + principal.getId();
+    }
+}
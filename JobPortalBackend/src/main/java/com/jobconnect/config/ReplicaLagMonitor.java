@@ -0,0 +1,51 @@
+package com.jobconnect.config;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Polls each replica's replication lag and takes lagging or unreachable
+ * replicas out of rotation until they recover.
+ */
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final List<JdbcTemplate> replicas;
+    private final RecentWriteTracker writeTracker;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, List<DataSource> replicas,
+                             RecentWriteTracker writeTracker) {
+        this.routingDataSource = routingDataSource;
+        this.replicas = replicas.stream().map(JdbcTemplate::new).toList();
+        this.writeTracker = writeTracker;
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.datasource.lag-check-interval:5000}")
+    public void checkLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            routingDataSource.updateLag(i, measureLagMillis(replicas.get(i)));
+        }
+        writeTracker.purgeExpired();
+    }
+
+    private long measureLagMillis(JdbcTemplate replica) {
+        try {
+            List<Map<String, Object>> status = replica.queryForList("SHOW REPLICA STATUS");
+            if (status.isEmpty()) {
+                // Not configured as a replica (e.g. a second local instance): treat as current
+                return 0;
+            }
+            Object seconds = status.get(0).get("Seconds_Behind_Source");
+            if (seconds == null) {
+                // Replication threads are stopped
+                return Long.MAX_VALUE;
+            }
+            return ((Number) seconds).longValue() * 1000;
+        } catch (RuntimeException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
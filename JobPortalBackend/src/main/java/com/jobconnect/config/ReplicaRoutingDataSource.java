@@ -0,0 +1,111 @@
+package com.jobconnect.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to
+ * the primary. Must sit behind a LazyConnectionDataSourceProxy so the
+ * connection is chosen after the transaction's read-only flag is set.
+ * Accounts that recently committed a write, as recorded by
+ * {@link WriteStatementInspector}, keep reading from the primary, and so does
+ * work run through {@link #onPrimary(Runnable)}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final List<String> replicaKeys;
+    private final List<DataSource> replicas;
+    private final AtomicLongArray replicaLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final RecentWriteTracker writeTracker;
+    private final long maxLagMillis;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    RecentWriteTracker writeTracker, long maxLagMillis) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicaKeys = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        this.replicas = List.copyOf(replicas);
+        this.replicaLagMillis = new AtomicLongArray(replicas.size());
+        this.writeTracker = writeTracker;
+        this.maxLagMillis = maxLagMillis;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Runs {@code action} with every transaction it reads in on this thread
+     * sent to the primary, for work that must see the latest commits. Has no
+     * effect when no replica is configured.
+     */
+    public static void onPrimary(Runnable action) {
+        if (PRIMARY_ONLY.get() != null) {
+            action.run();
+            return;
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (PRIMARY_ONLY.get() != null || writeTracker.wroteRecently()) {
+            return PRIMARY;
+        }
+
+        int count = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int candidate = (start + i) % count;
+            if (replicaLagMillis.get(candidate) <= maxLagMillis) {
+                return replicaKeys.get(candidate);
+            }
+        }
+        return PRIMARY;
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /** The replicas that reads are currently sent to. */
+    public List<DataSource> getReplicasInRotation() {
+        List<DataSource> inRotation = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            if (replicaLagMillis.get(i) <= maxLagMillis) {
+                inRotation.add(replicas.get(i));
+            }
+        }
+        return inRotation;
+    }
+
+    /**
+     * Records the latest measured lag; {@code Long.MAX_VALUE} takes the replica
+     * out of rotation.
+     */
+    public void updateLag(int replica, long lagMillis) {
+        replicaLagMillis.set(replica, lagMillis);
+    }
+}
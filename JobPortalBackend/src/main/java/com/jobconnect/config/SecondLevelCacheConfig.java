@@ -0,0 +1,113 @@
+package com.jobconnect.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.jobconnect.entity.EmployerAccount;
+import com.jobconnect.entity.Job;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.ToDoubleFunction;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache for reference data that is read far
+ * more often than it changes. Regions are bounded Caffeine caches; Hibernate's
+ * read-write strategy keeps them in step with updates made through the
+ * entity manager.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String JOB_REGION = Job.class.getName();
+    public static final String EMPLOYER_REGION = EmployerAccount.class.getName();
+    public static final String QUERY_REGION = "default-query-results-region";
+    public static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final List<String> REGIONS = List.of(JOB_REGION, EMPLOYER_REGION, QUERY_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jobconnect.cache.jobs.max-size:50000}") long jobsMaxSize,
+            @Value("${jobconnect.cache.jobs.ttl:PT30M}") Duration jobsTtl,
+            @Value("${jobconnect.cache.employers.max-size:10000}") long employersMaxSize,
+            @Value("${jobconnect.cache.employers.ttl:PT1H}") Duration employersTtl,
+            @Value("${jobconnect.cache.queries.max-size:5000}") long queriesMaxSize,
+            @Value("${jobconnect.cache.queries.ttl:PT5M}") Duration queriesTtl) {
+        CacheManager cacheManager = Caching
+            .getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("jobconnect-hibernate"), getClass().getClassLoader());
+
+        createRegion(cacheManager, JOB_REGION, jobsMaxSize, jobsTtl);
+        createRegion(cacheManager, EMPLOYER_REGION, employersMaxSize, employersTtl);
+        createRegion(cacheManager, QUERY_REGION, queriesMaxSize, queriesTtl);
+        // Update timestamps must outlive every cached query result, so this region never expires
+        createRegion(cacheManager, TIMESTAMPS_REGION, 10_000, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGIONS) {
+                FunctionCounter.builder("jobconnect.cache.hits", statistics,
+                        regionStat(region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region)
+                    .register(registry);
+                FunctionCounter.builder("jobconnect.cache.misses", statistics,
+                        regionStat(region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region)
+                    .register(registry);
+                Gauge.builder("jobconnect.cache.hit.ratio", statistics, regionStat(region, stats -> {
+                        long lookups = stats.getHitCount() + stats.getMissCount();
+                        return lookups == 0 ? 0 : (double) stats.getHitCount() / lookups;
+                    }))
+                    .tag("region", region)
+                    .register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> regionStat(String region, ToDoubleFunction<CacheRegionStatistics> stat) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : stat.applyAsDouble(regionStatistics);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobconnect.config;
+
+import com.jobconnect.entity.EmployerAccount;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts jobs and employer accounts changed on other nodes from this node's
+ * second-level cache. Hibernate only keeps the cache in step with writes
+ * made through this node's entity manager, so cached query results are
+ * dropped too.
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, ChangeEventBus changeEventBus) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, event -> {
+            cache.evictEntityData(Job.class, event.getEntityId());
+            cache.evictDefaultQueryRegion();
+        }, cache::evictAllRegions);
+        changeEventBus.subscribe(ChangeEvent.Entity.EMPLOYER, event -> {
+            cache.evictEntityData(EmployerAccount.class, event.getEntityId());
+            cache.evictDefaultQueryRegion();
+        }, cache::evictAllRegions);
+    }
+}
@@ -1,5 +1,8 @@
 package com.jobconnect.config;
 
+import com.jobconnect.config.RateLimitFilter.Scope;
+import com.jobconnect.security.RateLimiter;
+import com.jobconnect.security.RateLimiter.Limit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -28,6 +32,7 @@ public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final RateLimiter rateLimiter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,11 +48,16 @@ public class SecurityConfig {
 
                         // Protected employer/applicant operations
                         .requestMatchers("/api/jobs/employer/**").hasAuthority("EMPLOYER")
-                        .requestMatchers("/api/jobs/saved", "/api/jobs/*/save").authenticated()
-                        .requestMatchers(HttpMethod.POST, "/api/jobs").hasAuthority("EMPLOYER")
+                        .requestMatchers("/api/jobs/saved", "/api/jobs/saved/**", "/api/jobs/*/save").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/jobs/recommended").hasAuthority("APPLICANT")
+                        .requestMatchers(HttpMethod.POST, "/api/jobs", "/api/jobs/import").hasAuthority("EMPLOYER")
                         .requestMatchers(HttpMethod.PUT, "/api/jobs/**").hasAuthority("EMPLOYER")
                         .requestMatchers(HttpMethod.DELETE, "/api/jobs/**").hasAuthority("EMPLOYER")
                         .requestMatchers("/api/applications/**").authenticated()
+                        .requestMatchers("/api/saved-searches", "/api/saved-searches/**").hasAuthority("APPLICANT")
+                        .requestMatchers("/api/talent/**").hasAuthority("EMPLOYER")
+
+                        .requestMatchers("/actuator/health").permitAll()
 
                         // All other job endpoints (list/search/details) are public
                         .requestMatchers("/api/jobs/**").permitAll()
@@ -55,11 +65,34 @@ public class SecurityConfig {
                         // All other requests must be authenticated
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter(), JwtAuthFilter.class);
 
         return http.build();
     }
 
+    // Route limits, checked before authentication. Each login, register and reset costs a BCrypt
+    // hash, each forgot-password an email, and job search scans the jobs table.
+    private RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimiter)
+                .limit(HttpMethod.POST, "/api/auth/login", Scope.CLIENT_IP,
+                        new Limit("login-ip", 20, Duration.ofMinutes(1)))
+                .limit(HttpMethod.POST, "/api/auth/register", Scope.CLIENT_IP,
+                        new Limit("register-ip", 5, Duration.ofMinutes(10)))
+                .limit(HttpMethod.POST, "/api/auth/forgot-password", Scope.CLIENT_IP,
+                        new Limit("forgot-password-ip", 5, Duration.ofMinutes(15)))
+                .limit(HttpMethod.POST, "/api/auth/forgot-password", Scope.ROUTE,
+                        new Limit("forgot-password", 200, Duration.ofHours(1)))
+                .limit(HttpMethod.POST, "/api/auth/reset-password", Scope.CLIENT_IP,
+                        new Limit("reset-password-ip", 10, Duration.ofMinutes(15)))
+                .limit(HttpMethod.POST, "/api/jobs/search", Scope.CLIENT_IP,
+                        new Limit("job-search-ip", 60, Duration.ofMinutes(1)))
+                .limit(HttpMethod.GET, "/api/talent/search", Scope.CLIENT_IP,
+                        new Limit("talent-search-ip", 60, Duration.ofMinutes(1)))
+                .limit(null, "/api/**", Scope.CLIENT_IP,
+                        new Limit("api-ip", 600, Duration.ofMinutes(1)));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -0,0 +1,71 @@
+package com.jobconnect.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Reports how long this node took to become useful, measured from JVM start
+ * so class loading and context refresh are included:
+ * {@code jobconnect.startup.ready} when the application is ready and
+ * {@code jobconnect.startup.first-request} when the first request completes.
+ *
+ * <p>Also ends a CDS training run: with
+ * {@code jobconnect.startup.exit-when-ready=true} the JVM exits as soon as the
+ * application is ready, so {@code -XX:ArchiveClassesAtExit} can write the
+ * archive. The flag is read at runtime rather than through a condition because
+ * AOT processing fixes the set of beans at build time.
+ */
+@Component
+public class StartupMetrics extends OncePerRequestFilter {
+
+    private static final long NOT_YET = -1;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicLong readyMillis = new AtomicLong(NOT_YET);
+    private final AtomicLong firstRequestMillis = new AtomicLong(NOT_YET);
+    private final boolean exitWhenReady;
+
+    public StartupMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.startup.exit-when-ready:false}") boolean exitWhenReady) {
+        this.exitWhenReady = exitWhenReady;
+        TimeGauge.builder("jobconnect.startup.ready", readyMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .register(meterRegistry);
+        TimeGauge.builder("jobconnect.startup.first-request", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        readyMillis.compareAndSet(NOT_YET, System.currentTimeMillis() - jvmStartMillis);
+        if (exitWhenReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            if (firstRequestMillis.get() == NOT_YET) {
+                firstRequestMillis.compareAndSet(NOT_YET, System.currentTimeMillis() - jvmStartMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobconnect.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every statement Hibernate prepares, native queries included, and
+ * tells the {@link RecentWriteTracker} when the current transaction runs an
+ * INSERT, UPDATE or DELETE. Writes made through JdbcTemplate do not pass
+ * through here; those are bookkeeping tables that reads do not depend on.
+ */
+public class WriteStatementInspector implements StatementInspector {
+
+    private final RecentWriteTracker writeTracker;
+
+    public WriteStatementInspector(RecentWriteTracker writeTracker) {
+        this.writeTracker = writeTracker;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (isWrite(sql)) {
+            writeTracker.recordWriteOnCommit();
+        }
+        return sql;
+    }
+
+    static boolean isWrite(String sql) {
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 2;
+            } else {
+                break;
+            }
+        }
+        return startsWithKeyword(sql, i, "insert")
+            || startsWithKeyword(sql, i, "update")
+            || startsWithKeyword(sql, i, "delete")
+            || startsWithKeyword(sql, i, "merge");
+    }
+
+    private static boolean startsWithKeyword(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length())
+            && (offset + keyword.length() == sql.length()
+                || !Character.isLetterOrDigit(sql.charAt(offset + keyword.length())));
+    }
+}
@@ -2,18 +2,28 @@ package com.jobconnect.controller;
 
 import com.jobconnect.dto.ApplicationCreateRequest;
 import com.jobconnect.dto.ApplicationStatusUpdateRequest;
+import com.jobconnect.dto.EmployerDashboardResponse;
+import com.jobconnect.dto.JobStatusFlags;
 import com.jobconnect.entity.JobApplication;
 import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.service.ApplicationExportService;
+import com.jobconnect.service.ApplicationHistoryService;
 import com.jobconnect.service.ApplicationService;
+import com.jobconnect.service.ApplicationStatsService;
+import com.jobconnect.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
@@ -24,12 +34,20 @@ import java.util.Map;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class ApplicationController {
 
+    private static final int MAX_BATCH_JOB_IDS = 200;
+
     private final ApplicationService applicationService;
+    private final ApplicationExportService applicationExportService;
+    private final ApplicationStatsService applicationStatsService;
+    private final ApplicationHistoryService applicationHistoryService;
+    private final IdempotencyService idempotencyService;
 
     // Apply for a job (Applicant only)
     @PostMapping("/apply")
     public ResponseEntity<?> applyForJob(
             @Valid @RequestBody ApplicationCreateRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest,
             Authentication auth) {
         try {
             AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
@@ -37,8 +55,10 @@ public class ApplicationController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only applicants can apply for jobs"));
             }
-            JobApplication application = applicationService.applyForJob(request, principal.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(application);
+            return idempotencyService.execute("apply:" + principal.getId(), idempotencyKey, httpRequest, request, () -> {
+                JobApplication application = applicationService.applyForJob(request, principal.getId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(application);
+            });
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -106,6 +126,28 @@ public class ApplicationController {
         }
     }
 
+    // Get applications for a job ranked by candidate fit, best first (Employer only)
+    @GetMapping("/job/{jobId}/ranked")
+    public ResponseEntity<?> getRankedApplications(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication auth) {
+        if (limit < 1 || limit > ApplicationService.MAX_RANKED_LIMIT) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "limit must be between 1 and " + ApplicationService.MAX_RANKED_LIMIT));
+        }
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            if (!principal.getRole().isEmployer()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Only employers can view job applications"));
+            }
+            return ResponseEntity.ok(applicationService.getRankedApplications(jobId, principal.getId(), limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Get all applications for employer's jobs (Employer only)
     @GetMapping("/employer")
     public ResponseEntity<Page<JobApplication>> getEmployerApplications(
@@ -120,6 +162,91 @@ public class ApplicationController {
         return ResponseEntity.ok(applicationService.getApplicationsByEmployer(principal.getId(), pageable));
     }
 
+    // Application counts per job and status for the employer dashboard (Employer only)
+    @GetMapping("/employer/dashboard")
+    public ResponseEntity<EmployerDashboardResponse> getEmployerDashboard(Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isEmployer()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(applicationStatsService.getDashboard(principal.getId()));
+    }
+
+    // Conversion and time-in-stage across all of the employer's jobs (Employer only)
+    @GetMapping("/employer/funnel")
+    public ResponseEntity<?> getEmployerFunnel(Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isEmployer()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Only employers can view hiring funnels"));
+        }
+        return ResponseEntity.ok(applicationHistoryService.getEmployerFunnel(principal.getId()));
+    }
+
+    // Conversion and time-in-stage for one job's applications (Employer only)
+    @GetMapping("/job/{jobId}/funnel")
+    public ResponseEntity<?> getJobFunnel(
+            @PathVariable Long jobId,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            if (!principal.getRole().isEmployer()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Only employers can view hiring funnels"));
+            }
+            return ResponseEntity.ok(applicationHistoryService.getJobFunnel(jobId, principal.getId()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Status history of an application (its applicant or the job's employer)
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> getApplicationTimeline(
+            @PathVariable Long id,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            return ResponseEntity.ok(applicationHistoryService.getTimeline(id, principal));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Export applications for employer's jobs as CSV or NDJSON (Employer only)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportApplications(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) String status,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            if (!principal.getRole().isEmployer()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Only employers can export applications"));
+            }
+            ApplicationExportService.Format exportFormat = ApplicationExportService.Format.valueOf(format.toUpperCase());
+            Long employerId = principal.getId();
+            if (jobId != null) {
+                applicationExportService.checkJobOwner(jobId, employerId);
+            }
+
+            StreamingResponseBody body = out ->
+                applicationExportService.export(employerId, jobId, status, exportFormat, out);
+            boolean csv = exportFormat == ApplicationExportService.Format.CSV;
+            return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"applications." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Format must be csv or ndjson"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Get application by ID
     @GetMapping("/{id}")
     public ResponseEntity<JobApplication> getApplicationById(@PathVariable Long id) {
@@ -138,6 +265,24 @@ public class ApplicationController {
         return ResponseEntity.ok(Map.of("hasApplied", hasApplied));
     }
 
+    // Applied/saved status for a batch of jobs, e.g. one page of search results (Applicant only)
+    @GetMapping("/check")
+    public ResponseEntity<?> getJobStatusFlags(
+            @RequestParam List<Long> jobIds,
+            Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Only applicants can check application status"));
+        }
+        if (jobIds.size() > MAX_BATCH_JOB_IDS) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "At most " + MAX_BATCH_JOB_IDS + " job ids can be checked at once"));
+        }
+        List<JobStatusFlags> flags = applicationService.getJobStatusFlags(principal.getId(), jobIds);
+        return ResponseEntity.ok(flags);
+    }
+
     // Get application count for a job
     @GetMapping("/job/{jobId}/count")
     public ResponseEntity<Map<String, Long>> getApplicationCount(@PathVariable Long jobId) {
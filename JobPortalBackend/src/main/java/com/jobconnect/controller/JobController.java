@@ -1,22 +1,47 @@
 package com.jobconnect.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobconnect.dto.JobCreateRequest;
+import com.jobconnect.dto.JobImportEvent;
 import com.jobconnect.dto.JobSearchRequest;
+import com.jobconnect.dto.JobVersionRow;
 import com.jobconnect.entity.Job;
 import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.service.IdempotencyService;
+import com.jobconnect.service.JobImportService;
+import com.jobconnect.service.JobJsonCache;
 import com.jobconnect.service.JobService;
+import com.jobconnect.service.JobViewTracker;
+import com.jobconnect.service.RecommendationService;
+import com.jobconnect.service.TrendingJobTracker;
+import com.jobconnect.util.HttpCaching;
+import com.jobconnect.util.RawJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -24,35 +49,126 @@ import java.util.Map;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class JobController {
 
+    private static final int MAX_BATCH_JOB_IDS = 200;
+
+    // Public job data may be served by shared caches for a short while, then revalidated by ETag
+    private static final CacheControl LISTING_CACHE = CacheControl.maxAge(Duration.ofSeconds(30))
+        .sMaxAge(Duration.ofSeconds(60))
+        .staleWhileRevalidate(Duration.ofSeconds(30))
+        .cachePublic();
+    private static final CacheControl DETAIL_CACHE = CacheControl.maxAge(Duration.ofSeconds(60))
+        .sMaxAge(Duration.ofMinutes(5))
+        .staleWhileRevalidate(Duration.ofSeconds(60))
+        .cachePublic();
+
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final RecommendationService recommendationService;
+    private final JobJsonCache jobJsonCache;
+    private final JobViewTracker jobViewTracker;
+    private final TrendingJobTracker trendingJobTracker;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
-    // Get all active jobs with pagination
+    // Get all active jobs with pagination, as job-card summaries
     @GetMapping
-    public ResponseEntity<Page<Job>> getAllJobs(
+    public ResponseEntity<Page<RawJson>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(jobService.getAllJobs(pageable));
+        Page<JobVersionRow> versions = jobService.getActiveJobVersions(pageable);
+        // A job leaving the page changes no timestamp, so only the ETag is a safe validator
+        String etag = listingEtag(versions);
+        if (HttpCaching.notModified(webRequest, etag, null, LISTING_CACHE)) {
+            return null;
+        }
+
+        List<RawJson> summaries = jobJsonCache.summaries(versions.getContent(), jobService::getJobsByIds);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(LISTING_CACHE)
+            .body(new PageImpl<>(summaries, versions.getPageable(), versions.getTotalElements()));
     }
 
-    // Search jobs with filters
+    // Search jobs with filters, as job-card summaries
     @PostMapping("/search")
-    public ResponseEntity<Page<Job>> searchJobs(@RequestBody JobSearchRequest request) {
-        return ResponseEntity.ok(jobService.searchJobs(request));
+    public ResponseEntity<Page<RawJson>> searchJobs(@RequestBody JobSearchRequest request) {
+        return ResponseEntity.ok(jobService.searchJobs(request).map(jobJsonCache::summary));
+    }
+
+    // Jobs matching the applicant's skills, experience and education (Applicant only)
+    @GetMapping("/recommended")
+    public ResponseEntity<?> getRecommendedJobs(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication auth) {
+        if (limit < 1 || limit > RecommendationService.MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "limit must be between 1 and " + RecommendationService.MAX_LIMIT));
+        }
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            return ResponseEntity.ok(recommendationService.getRecommendedJobs(principal.getId(), limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Jobs with the most recent views, saves and applications, as job-card summaries
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingJobs(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > TrendingJobTracker.MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "limit must be between 1 and " + TrendingJobTracker.MAX_LIMIT));
+        }
+        return ResponseEntity.ok(jobService.getTrendingJobs(limit).stream().map(jobJsonCache::summary).toList());
     }
 
     // Get job by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Job> getJobById(@PathVariable Long id) {
+    public ResponseEntity<RawJson> getJobById(@PathVariable Long id, ServletWebRequest webRequest, Authentication auth) {
+        // Only the version is read up front; an unchanged job is answered with 304 without being loaded
+        Optional<JobVersionRow> version = jobService.getJobVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // A revalidation is a repeat view too; recording is in-memory and flushed in batches
+        jobViewTracker.recordView(id,
+            auth != null && auth.getPrincipal() instanceof AccountPrincipal principal ? principal : null,
+            webRequest.getRequest().getRemoteAddr(),
+            webRequest.getHeader(HttpHeaders.USER_AGENT));
+        trendingJobTracker.record(id, TrendingJobTracker.Signal.VIEW);
+        String etag = "j" + id + "-" + HttpCaching.toMicros(version.get().getUpdatedAt())
+            + "-" + HttpCaching.toMicros(version.get().getEmployerUpdatedAt());
+        Instant lastModified = HttpCaching.latest(version.get().getUpdatedAt(), version.get().getEmployerUpdatedAt());
+        if (HttpCaching.notModified(webRequest, etag, lastModified, DETAIL_CACHE)) {
+            return null;
+        }
+
         return jobService.getJobById(id)
-            .map(ResponseEntity::ok)
+            .map(job -> ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(DETAIL_CACHE)
+                .body(jobJsonCache.detail(job)))
             .orElse(ResponseEntity.notFound().build());
     }
 
+    // View counts for a job: all-time, and views and distinct viewers over the last 30 days
+    @GetMapping("/{id}/views")
+    public ResponseEntity<?> getJobViews(@PathVariable Long id) {
+        if (jobService.getJobVersion(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(jobViewTracker.getViews(id));
+    }
+
     // Create new job (Employer only)
     @PostMapping
     public ResponseEntity<?> createJob(
             @Valid @RequestBody JobCreateRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest,
             Authentication auth) {
         try {
             AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
@@ -60,13 +176,54 @@ public class JobController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only employers can post jobs"));
             }
-            Job job = jobService.createJob(request, principal.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(job);
+            return idempotencyService.execute("job:" + principal.getId(), idempotencyKey, httpRequest, request, () -> {
+                Job job = jobService.createJob(request, principal.getId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(job);
+            });
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    // Bulk import jobs from an NDJSON or CSV stream (Employer only)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importJobs(HttpServletRequest request, Authentication auth) throws IOException {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (principal == null || !principal.getRole().isEmployer()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Only employers can import jobs"));
+        }
+
+        JobImportService.Format format = MediaType.parseMediaType(request.getContentType())
+            .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? JobImportService.Format.CSV
+                : JobImportService.Format.NDJSON;
+        Long employerId = principal.getId();
+        InputStream input = request.getInputStream();
+
+        // Progress, per-row errors and the final summary are written as NDJSON while the upload is read.
+        StreamingResponseBody body = out -> {
+            try {
+                jobImportService.importJobs(input, format, employerId, event -> writeEvent(out, event));
+            } catch (IOException | RuntimeException e) {
+                writeEvent(out, JobImportEvent.builder().type("SUMMARY").message(e.getMessage()).build());
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+
+    private void writeEvent(OutputStream out, JobImportEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // Update job (Employer only)
     @PutMapping("/{id}")
     public ResponseEntity<?> updateJob(
@@ -124,7 +281,7 @@ public class JobController {
             Authentication auth) {
         try {
             AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
-            if (principal == null || principal.getRole().isEmployer()) {
+            if (principal == null || !principal.getRole().isApplicant()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only applicants can save jobs"));
             }
@@ -142,6 +299,10 @@ public class JobController {
             Authentication auth) {
         try {
             AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            if (principal == null || !principal.getRole().isApplicant()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Only applicants can unsave jobs"));
+            }
             jobService.unsaveJob(id, principal.getId());
             return ResponseEntity.ok(Map.of("message", "Job unsaved successfully"));
         } catch (Exception e) {
@@ -151,8 +312,64 @@ public class JobController {
 
     // Get saved jobs (Applicant only)
     @GetMapping("/saved")
-    public ResponseEntity<List<Job>> getSavedJobs(Authentication auth) {
+    public ResponseEntity<?> getSavedJobs(Authentication auth) {
         AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return onlyApplicantsHaveSavedJobs();
+        }
         return ResponseEntity.ok(jobService.getSavedJobs(principal.getId()));
     }
+
+    // Get saved jobs one page at a time, most recently saved first (Applicant only)
+    @GetMapping("/saved/page")
+    public ResponseEntity<?> getSavedJobsPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return onlyApplicantsHaveSavedJobs();
+        }
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(jobService.getSavedJobs(principal.getId(), pageable));
+    }
+
+    // Which of the given job ids the applicant has saved (Applicant only)
+    @GetMapping("/saved/ids")
+    public ResponseEntity<?> getSavedJobIds(
+            @RequestParam List<Long> jobIds,
+            Authentication auth) {
+        if (jobIds.size() > MAX_BATCH_JOB_IDS) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "At most " + MAX_BATCH_JOB_IDS + " job ids can be checked at once"));
+        }
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return onlyApplicantsHaveSavedJobs();
+        }
+        return ResponseEntity.ok(Map.of("savedJobIds", jobService.getSavedJobIds(principal.getId(), jobIds)));
+    }
+
+    /**
+     * Tags a listing page with the rows it is built from, so any node, reading
+     * from any replica, gives the same content the same tag. Each row's id and
+     * both timestamps feed a 31-multiplier hash, which changes whenever any one
+     * of them does; the total is part of the page body too.
+     */
+    private static String listingEtag(Page<JobVersionRow> versions) {
+        long hash = 0;
+        for (JobVersionRow row : versions.getContent()) {
+            hash = 31 * hash + row.getId();
+            hash = 31 * hash + HttpCaching.toMicros(row.getUpdatedAt());
+            hash = 31 * hash + HttpCaching.toMicros(row.getEmployerUpdatedAt());
+        }
+        Pageable pageable = versions.getPageable();
+        return "l" + pageable.getPageNumber() + "-" + pageable.getPageSize() + "-" + versions.getTotalElements()
+            + "-" + Long.toUnsignedString(hash, 36);
+    }
+
+    private static ResponseEntity<Map<String, String>> onlyApplicantsHaveSavedJobs() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(Map.of("error", "Only applicants have saved jobs"));
+    }
 }
@@ -1,12 +1,16 @@
 package com.jobconnect.controller;
 
 import com.jobconnect.dto.NotificationResponse;
+import com.jobconnect.dto.NotificationVersion;
 import com.jobconnect.security.AccountPrincipal;
 import com.jobconnect.service.NotificationService;
+import com.jobconnect.util.HttpCaching;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -17,15 +21,29 @@ import java.util.Map;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class NotificationController {
 
+    // Per-user data: never stored by shared caches, always revalidated by ETag
+    private static final CacheControl NOTIFICATIONS_CACHE = CacheControl.noCache().cachePrivate();
+
     private final NotificationService notificationService;
 
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotifications(Authentication auth) {
+    public ResponseEntity<List<NotificationResponse>> getNotifications(Authentication auth, ServletWebRequest webRequest) {
         AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
         if (!principal.getRole().isApplicant()) {
             return ResponseEntity.status(403).build();
         }
-        return ResponseEntity.ok(notificationService.getNotificationsForUser(principal.getId()));
+
+        // Marking as read changes no timestamp, so only the ETag (which counts unread) is a safe validator
+        NotificationVersion version = notificationService.getNotificationsVersion(principal.getId());
+        String etag = "n" + version.getTotal() + "-" + (version.getUnread() != null ? version.getUnread() : 0)
+            + "-" + HttpCaching.toMicros(version.getLatestCreatedAt());
+        if (HttpCaching.notModified(webRequest, etag, null, NOTIFICATIONS_CACHE)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(NOTIFICATIONS_CACHE)
+            .body(notificationService.getNotificationsForUser(principal.getId()));
     }
 
     @PostMapping("/{id}/read")
@@ -0,0 +1,161 @@
+package com.jobconnect.controller;
+
+import com.jobconnect.entity.Resume;
+import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.service.ResumeService;
+import com.jobconnect.service.ResumeStorage;
+import com.jobconnect.util.ByteRange;
+import com.jobconnect.util.HttpCaching;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/resumes")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class ResumeController {
+
+    // Tomcat's sendfile request attributes: the container writes the file straight from the page cache
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // A resume id always names the same bytes; "me" changes with each upload
+    private static final CacheControl RESUME_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+    private static final CacheControl CURRENT_RESUME_CACHE = CacheControl.noCache().cachePrivate();
+
+    private final ResumeService resumeService;
+    private final ResumeStorage resumeStorage;
+
+    // Upload a resume (Applicant only); it becomes the profile's resume.
+    // Multipart parsing is disabled in the container, so the "file" part is streamed to storage as it arrives.
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> uploadResume(HttpServletRequest request, Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Only applicants can upload resumes"));
+        }
+        try {
+            FileItemInputIterator parts =
+                new JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory>().getItemIterator(request);
+            while (parts.hasNext()) {
+                FileItemInput part = parts.next();
+                if (!part.isFormField() && "file".equals(part.getFieldName())) {
+                    try (InputStream content = part.getInputStream()) {
+                        return ResponseEntity.status(HttpStatus.CREATED)
+                            .body(resumeService.upload(principal.getId(), part.getName(), content));
+                    }
+                }
+            }
+            return ResponseEntity.badRequest().body(Map.of("error", "Resume file is required"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Download the current applicant's latest resume
+    @GetMapping("/me")
+    public ResponseEntity<?> downloadOwnResume(Authentication auth, ServletWebRequest webRequest,
+                                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        if (!principal.getRole().isApplicant()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Optional<Resume> resume = resumeService.getLatestResume(principal.getId());
+        if (resume.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return serve(resume.get(), CURRENT_RESUME_CACHE, webRequest, request, response);
+    }
+
+    // Download a resume: its owner, or an employer it was submitted to
+    @GetMapping("/{id}")
+    public ResponseEntity<?> downloadResume(@PathVariable Long id, Authentication auth, ServletWebRequest webRequest,
+                                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        Optional<Resume> resume = resumeService.getResumeForDownload(id, principal);
+        if (resume.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return serve(resume.get(), RESUME_CACHE, webRequest, request, response);
+    }
+
+    /**
+     * Writes the file (or the requested byte range) without reading it onto
+     * the heap: through Tomcat's sendfile when the store has a local file,
+     * otherwise through {@link ResumeStorage#transferTo}.
+     */
+    private ResponseEntity<?> serve(Resume resume, CacheControl cacheControl, ServletWebRequest webRequest,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = resume.getSha256();
+        if (HttpCaching.notModified(webRequest, etag, null, cacheControl)) {
+            return null;
+        }
+
+        long size = resume.getSize();
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = ifRange == null || ifRange.equals("\"" + etag + "\"")
+            ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+            : null;
+        if (range == ByteRange.UNSATISFIABLE) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build();
+        }
+
+        long start = range == null ? 0 : range.start();
+        long length = range == null ? size : range.length();
+        response.setStatus(range == null ? HttpStatus.OK.value() : HttpStatus.PARTIAL_CONTENT.value());
+        if (range != null) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + range.end() + "/" + size);
+        }
+        response.setHeader(HttpHeaders.ETAG, "\"" + etag + "\"");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(resume.getFileName(), StandardCharsets.UTF_8)
+            .build()
+            .toString());
+        response.setContentType(resume.getContentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return null;
+        }
+
+        Optional<Path> file = resumeStorage.localFile(etag);
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+        } else {
+            resumeStorage.transferTo(etag, start, length, Channels.newChannel(response.getOutputStream()));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobconnect.controller;
+
+import com.jobconnect.dto.SavedSearchRequest;
+import com.jobconnect.dto.SavedSearchResponse;
+import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    // List the applicant's saved searches (Applicant only)
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches(Authentication auth) {
+        AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(principal.getId()));
+    }
+
+    // Save a search; alerts are on unless alertsEnabled is false (Applicant only)
+    @PostMapping
+    public ResponseEntity<?> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequest request,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(savedSearchService.createSavedSearch(request, principal.getId()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Replace a saved search's name, criteria or alert setting (Applicant only)
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateSavedSearch(
+            @PathVariable Long id,
+            @Valid @RequestBody SavedSearchRequest request,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            return ResponseEntity.ok(savedSearchService.updateSavedSearch(id, request, principal.getId()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Delete a saved search (Applicant only)
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteSavedSearch(
+            @PathVariable Long id,
+            Authentication auth) {
+        try {
+            AccountPrincipal principal = (AccountPrincipal) auth.getPrincipal();
+            savedSearchService.deleteSavedSearch(id, principal.getId());
+            return ResponseEntity.ok(Map.of("message", "Saved search deleted successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
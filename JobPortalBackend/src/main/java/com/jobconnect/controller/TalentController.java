@@ -0,0 +1,28 @@
+package com.jobconnect.controller;
+
+import com.jobconnect.dto.TalentSearchRequest;
+import com.jobconnect.service.TalentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/talent")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class TalentController {
+
+    private final TalentSearchService talentSearchService;
+
+    // Search applicant profiles by skills, experience and keywords (Employer only)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTalent(@ModelAttribute TalentSearchRequest request) {
+        try {
+            return ResponseEntity.ok(talentSearchService.search(request));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
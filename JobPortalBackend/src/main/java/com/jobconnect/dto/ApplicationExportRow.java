@@ -0,0 +1,23 @@
+package com.jobconnect.dto;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * Flat projection of a job application used by the streaming export, so
+ * rows are read without loading the job and account entity graphs.
+ */
+@Value
+public class ApplicationExportRow {
+    Long applicationId;
+    Long jobId;
+    String jobTitle;
+    Long applicantId;
+    String applicantName;
+    String applicantEmail;
+    String applicantPhone;
+    String status;
+    String resumeUrl;
+    LocalDateTime appliedAt;
+    LocalDateTime updatedAt;
+}
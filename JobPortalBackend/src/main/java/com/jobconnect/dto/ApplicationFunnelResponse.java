@@ -0,0 +1,30 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApplicationFunnelResponse {
+    Long jobId;
+    long applications;
+    List<Stage> stages;
+
+    @Value
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Stage {
+        String status;
+        long entered;
+        long reached;
+        long exited;
+        long current;
+        // Share of all applications that ever reached this stage
+        double conversionRate;
+        // Mean time spent in the stage by applications that have left it
+        Long averageTimeInStageMs;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApplicationTimelineEntry {
+    String status;
+    String previousStatus;
+    Instant at;
+    // Time spent in this status: until the next change, or until now for the current one
+    long durationMs;
+    boolean current;
+}
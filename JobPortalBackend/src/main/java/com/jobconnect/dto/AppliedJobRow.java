@@ -0,0 +1,10 @@
+package com.jobconnect.dto;
+
+import lombok.Value;
+
+@Value
+public class AppliedJobRow {
+    Long jobId;
+    Long applicationId;
+    String status;
+}
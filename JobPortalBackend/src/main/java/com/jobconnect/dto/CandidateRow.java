@@ -0,0 +1,14 @@
+package com.jobconnect.dto;
+
+import lombok.Value;
+
+@Value
+public class CandidateRow {
+    Long applicationId;
+    Long applicantId;
+    String skills;
+    String experience;
+    String education;
+    String bio;
+    String coverLetter;
+}
@@ -0,0 +1,16 @@
+package com.jobconnect.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EmployerDashboardResponse {
+    int totalJobs;
+    int activeJobs;
+    long totalApplications;
+    Map<String, Long> statusCounts;
+    List<JobDashboardEntry> jobs;
+}
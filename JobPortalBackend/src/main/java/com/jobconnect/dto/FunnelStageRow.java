@@ -0,0 +1,12 @@
+package com.jobconnect.dto;
+
+import lombok.Value;
+
+@Value
+public class FunnelStageRow {
+    Byte stage;
+    Long entered;
+    Long reached;
+    Long exited;
+    Long timeInStageMs;
+}
@@ -0,0 +1,18 @@
+package com.jobconnect.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class JobDashboardEntry {
+    Long jobId;
+    String title;
+    String status;
+    LocalDateTime createdAt;
+    long totalApplications;
+    Map<String, Long> statusCounts;
+    LocalDateTime lastAppliedAt;
+}
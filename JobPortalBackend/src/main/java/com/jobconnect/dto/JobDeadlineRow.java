@@ -0,0 +1,10 @@
+package com.jobconnect.dto;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+@Value
+public class JobDeadlineRow {
+    Long id;
+    LocalDateTime applicationDeadline;
+}
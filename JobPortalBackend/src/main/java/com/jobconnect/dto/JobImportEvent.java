@@ -0,0 +1,17 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobImportEvent {
+    String type; // PROGRESS, ERROR, SUMMARY
+    Long line; // source line the rejected record starts on
+    Long processed;
+    Long imported;
+    Long failed;
+    String message;
+}
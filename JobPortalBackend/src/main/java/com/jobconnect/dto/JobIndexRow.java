@@ -0,0 +1,11 @@
+package com.jobconnect.dto;
+
+import lombok.Value;
+
+@Value
+public class JobIndexRow {
+    Long id;
+    String title;
+    String skills;
+    String description;
+}
@@ -0,0 +1,19 @@
+package com.jobconnect.dto;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * One job joined with one of its status counters; jobs without applications
+ * come back with a null application status.
+ */
+@Value
+public class JobStatsRow {
+    Long jobId;
+    String title;
+    String jobStatus;
+    LocalDateTime createdAt;
+    String applicationStatus;
+    Long applicationCount;
+    LocalDateTime lastAppliedAt;
+}
@@ -0,0 +1,16 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStatusFlags {
+    Long jobId;
+    boolean applied;
+    boolean saved;
+    Long applicationId;
+    String applicationStatus;
+}
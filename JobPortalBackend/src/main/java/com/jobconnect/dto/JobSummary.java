@@ -0,0 +1,29 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+/** The fields a job card shows; the description is cut to an excerpt. */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobSummary {
+    Long id;
+    String title;
+    String company;
+    String location;
+    String jobType;
+    String workMode;
+    String experienceLevel;
+    String salary;
+    String skills;
+    String industry;
+    String description;
+    String status;
+    LocalDateTime applicationDeadline;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long employerId;
+}
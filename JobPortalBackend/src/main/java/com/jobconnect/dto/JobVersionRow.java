@@ -0,0 +1,11 @@
+package com.jobconnect.dto;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+@Value
+public class JobVersionRow {
+    Long id;
+    LocalDateTime updatedAt;
+    LocalDateTime employerUpdatedAt;
+}
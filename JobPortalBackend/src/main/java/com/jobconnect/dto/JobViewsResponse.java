@@ -0,0 +1,14 @@
+package com.jobconnect.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class JobViewsResponse {
+    Long jobId;
+    long views;
+    long viewsLast30Days;
+    // HyperLogLog estimate, within a few percent
+    long uniqueViewersLast30Days;
+}
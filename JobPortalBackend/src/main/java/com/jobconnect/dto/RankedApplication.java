@@ -0,0 +1,18 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jobconnect.entity.JobApplication;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RankedApplication {
+    JobApplication application;
+    double score;
+    int matchedSkills;
+    int requiredSkills;
+    int matchedKeywords;
+    Integer experienceYears;
+}
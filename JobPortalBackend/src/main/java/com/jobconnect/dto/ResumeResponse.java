@@ -0,0 +1,19 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumeResponse {
+    Long id;
+    String fileName;
+    String contentType;
+    long size;
+    String sha256;
+    LocalDateTime uploadedAt;
+    String url;
+}
@@ -0,0 +1,18 @@
+package com.jobconnect.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequest {
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+
+    @NotNull(message = "Search criteria are required")
+    private JobSearchRequest criteria;
+
+    private Boolean alertsEnabled;
+}
@@ -0,0 +1,18 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SavedSearchResponse {
+    Long id;
+    String name;
+    JobSearchRequest criteria;
+    boolean alertsEnabled;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
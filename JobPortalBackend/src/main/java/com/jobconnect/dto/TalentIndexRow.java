@@ -0,0 +1,13 @@
+package com.jobconnect.dto;
+
+import lombok.Value;
+
+@Value
+public class TalentIndexRow {
+    Long id;
+    String skills;
+    String experience;
+    String education;
+    String bio;
+    String resumeText;
+}
@@ -0,0 +1,15 @@
+package com.jobconnect.dto;
+
+import lombok.Data;
+
+@Data
+public class TalentSearchRequest {
+    private String keyword; // free text, ranked with BM25
+    private String skills; // comma-separated, all required
+    private String anySkills; // comma-separated, at least one required
+    private String excludeSkills; // comma-separated, none allowed
+    private Integer minExperience;
+    private Integer maxExperience;
+    private Integer page = 0;
+    private Integer size = 20;
+}
@@ -0,0 +1,19 @@
+package com.jobconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TalentSearchResult {
+    Long applicantId;
+    String name;
+    String skills;
+    String experience;
+    Integer experienceYears;
+    String education;
+    String bio;
+    double score;
+}
@@ -7,13 +7,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +23,15 @@ import lombok.Data;
 public class ApplicantAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "applicant_account_id")
+    @TableGenerator(
+        name = "applicant_account_id",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "applicant_accounts",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false)
@@ -60,15 +66,6 @@ public class ApplicantAccount {
     @OneToMany(mappedBy = "applicant")
     private List<JobApplication> applications = new ArrayList<>();
 
-    @JsonIgnore
-    @ManyToMany
-    @JoinTable(
-        name = "saved_jobs",
-        joinColumns = @JoinColumn(name = "applicant_id"),
-        inverseJoinColumns = @JoinColumn(name = "job_id")
-    )
-    private List<Job> savedJobs = new ArrayList<>();
-
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
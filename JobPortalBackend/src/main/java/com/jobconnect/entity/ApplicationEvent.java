@@ -0,0 +1,48 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * One status transition of an application, appended in the same transaction
+ * as the change and never updated. Statuses are {@link ApplicationStage}
+ * codes and {@code ts} is epoch milliseconds, keeping rows small. There are
+ * no foreign keys, so the history outlives a withdrawn application.
+ */
+@Data
+@Entity
+@Table(
+    name = "application_events",
+    indexes = {
+        @Index(name = "idx_application_events_job_ts", columnList = "job_id, ts"),
+        @Index(name = "idx_application_events_application_ts", columnList = "application_id, ts")
+    }
+)
+public class ApplicationEvent {
+
+    // AUTO_INCREMENT, so the V6 backfill could number the historical rows itself
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Null for the event that created the application
+    private Byte fromStage;
+
+    @Column(nullable = false)
+    private byte toStage;
+
+    @Column(nullable = false)
+    private long ts;
+}
@@ -0,0 +1,41 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Hiring funnel counters per job and stage, advanced with every
+ * {@link ApplicationEvent} in the same transaction: how often the stage was
+ * entered, by how many distinct applications, how often it was left, and
+ * the total time spent in it by those that left.
+ */
+@Data
+@Entity
+@Table(
+    name = "application_funnel_stats",
+    indexes = @Index(name = "idx_application_funnel_stats_employer", columnList = "employer_id")
+)
+public class ApplicationFunnelStats {
+
+    @EmbeddedId
+    private ApplicationFunnelStatsId id;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(nullable = false)
+    private long entered;
+
+    @Column(nullable = false)
+    private long reached;
+
+    @Column(nullable = false)
+    private long exited;
+
+    @Column(nullable = false)
+    private long timeInStageMs;
+}
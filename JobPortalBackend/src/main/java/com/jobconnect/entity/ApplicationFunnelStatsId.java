@@ -0,0 +1,20 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationFunnelStatsId implements Serializable {
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    private byte stage;
+}
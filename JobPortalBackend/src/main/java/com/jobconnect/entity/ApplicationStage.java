@@ -0,0 +1,38 @@
+package com.jobconnect.entity;
+
+/**
+ * Application statuses as the one-byte codes stored in
+ * {@code application_events} and {@code application_funnel_stats}. Codes are
+ * persisted, so existing ones must never be renumbered.
+ */
+public enum ApplicationStage {
+    PENDING(1),
+    REVIEWED(2),
+    SHORTLISTED(3),
+    REJECTED(4),
+    ACCEPTED(5),
+    WITHDRAWN(6);
+
+    private final byte code;
+
+    ApplicationStage(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static ApplicationStage fromCode(byte code) {
+        for (ApplicationStage stage : values()) {
+            if (stage.code == code) {
+                return stage;
+            }
+        }
+        throw new IllegalArgumentException("Unknown application stage code " + code);
+    }
+
+    public static ApplicationStage fromStatus(String status) {
+        return status == null ? PENDING : valueOf(status);
+    }
+}
@@ -1,30 +1,49 @@
 package com.jobconnect.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_status_deadline", columnList = "status, application_deadline"),
+    @Index(name = "idx_jobs_status_created", columnList = "status, created_at"),
+    @Index(name = "idx_jobs_employer_created", columnList = "employer_id, created_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_id")
+    @TableGenerator(
+        name = "job_id",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "jobs",
+        allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false)
@@ -67,6 +86,11 @@ public class Job {
     
     private LocalDateTime applicationDeadline;
     
+    // The deadline a reminder was last sent for; only JobExpiryService's claim update writes it
+    @Column(insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime reminderSentFor;
+    
     private String status; // ACTIVE, CLOSED, DRAFT
     
     private LocalDateTime createdAt;
@@ -75,16 +99,17 @@ public class Job {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
         if (status == null) {
             status = "ACTIVE";
         }
     }
     
+    // updatedAt is an ETag and JSON cache version; keep it at the precision the database stores
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
     
     // Relationships
@@ -95,8 +120,4 @@ public class Job {
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL)
     @JsonIgnore
     private List<JobApplication> applications;
-    
-    @ManyToMany(mappedBy = "savedJobs")
-    @JsonIgnore
-    private List<ApplicantAccount> savedByApplicants;
 }
@@ -1,16 +1,34 @@
 package com.jobconnect.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(
+    name = "job_applications",
+    uniqueConstraints = @UniqueConstraint(
+        name = JobApplication.APPLICANT_JOB_CONSTRAINT,
+        columnNames = {"applicant_id", "job_id"}
+    ),
+    indexes = @Index(name = "idx_job_applications_job_status", columnList = "job_id, status")
+)
 @Data
 public class JobApplication {
 
+    public static final String APPLICANT_JOB_CONSTRAINT = "uk_job_applications_applicant_job";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_application_id")
+    @TableGenerator(
+        name = "job_application_id",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "job_applications",
+        allocationSize = 50
+    )
     private Long id;
 
     @ManyToOne
@@ -25,6 +43,12 @@ public class JobApplication {
     private String coverLetter;
     
     private String resumeUrl;
+
+    // Set when the resume was uploaded here rather than linked; resumeUrl then points at it
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    private Resume resume;
     
     private String status; // PENDING, REVIEWED, SHORTLISTED, REJECTED, ACCEPTED
     
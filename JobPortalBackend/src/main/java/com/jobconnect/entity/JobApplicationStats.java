@@ -0,0 +1,33 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Application counts per job and status, kept in step with job_applications
+ * in the same transaction as every apply, withdraw and status change.
+ */
+@Data
+@Entity
+@Table(
+    name = "job_application_stats",
+    indexes = @Index(name = "idx_job_application_stats_employer", columnList = "employer_id")
+)
+public class JobApplicationStats {
+
+    @EmbeddedId
+    private JobApplicationStatsId id;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(nullable = false)
+    private long applicationCount;
+
+    private LocalDateTime lastAppliedAt;
+}
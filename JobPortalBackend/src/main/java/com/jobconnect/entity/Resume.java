@@ -0,0 +1,68 @@
+package com.jobconnect.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * One uploaded resume file. The bytes live in the resume store under their
+ * SHA-256, so identical uploads share storage; rows are never changed after
+ * insert, which lets applications keep pointing at the version they were
+ * submitted with.
+ */
+@Data
+@Entity
+@Table(name = "resumes", indexes = @Index(name = "idx_resumes_applicant_uploaded", columnList = "applicant_id, uploaded_at"))
+public class Resume {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "resume_id")
+    @TableGenerator(
+        name = "resume_id",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "resumes",
+        allocationSize = 50
+    )
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "applicant_id", nullable = false)
+    private ApplicantAccount applicant;
+
+    @Column(name = "applicant_id", insertable = false, updatable = false)
+    private Long applicantId;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private LocalDateTime uploadedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        uploadedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,33 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * Plain text extracted from an applicant's current resume, for the talent
+ * search index. One row per applicant, replaced when a newer resume is
+ * extracted; kept apart from {@link Resume} so loading resume metadata never
+ * pulls the text along.
+ */
+@Data
+@Entity
+@Table(name = "applicant_resume_texts")
+public class ResumeText {
+
+    @Id
+    @Column(name = "applicant_id")
+    private Long applicantId;
+
+    @Column(nullable = false)
+    private Long resumeId;
+
+    @Column(nullable = false, columnDefinition = "mediumtext")
+    private String text;
+
+    @Column(nullable = false)
+    private LocalDateTime extractedAt;
+}
@@ -0,0 +1,40 @@
+package com.jobconnect.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A row of the saved_jobs join table. The (applicant_id, job_id) primary key
+ * gives set semantics, so saving and unsaving touch exactly one row.
+ */
+@Data
+@Entity
+@Table(name = "saved_jobs", indexes = @Index(name = "idx_saved_jobs_applicant_saved", columnList = "applicant_id, saved_at"))
+public class SavedJob {
+
+    @EmbeddedId
+    private SavedJobId id;
+
+    private LocalDateTime savedAt;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "applicant_id", insertable = false, updatable = false)
+    private ApplicantAccount applicant;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", insertable = false, updatable = false)
+    private Job job;
+}
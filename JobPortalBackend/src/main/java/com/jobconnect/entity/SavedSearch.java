@@ -0,0 +1,73 @@
+package com.jobconnect.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * An applicant's stored job search. {@code criteria} holds the serialized
+ * {@code JobSearchRequest}; when alerts are enabled, newly posted jobs that
+ * match it raise a notification.
+ */
+@Data
+@Entity
+@Table(name = "saved_searches", indexes = @Index(name = "idx_saved_searches_applicant", columnList = "applicant_id"))
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_search_id")
+    @TableGenerator(
+        name = "saved_search_id",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "saved_searches",
+        allocationSize = 50
+    )
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "applicant_id", nullable = false)
+    private ApplicantAccount applicant;
+
+    @Column(name = "applicant_id", insertable = false, updatable = false)
+    private Long applicantId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, length = 4000)
+    private String criteria;
+
+    @Column(nullable = false)
+    private boolean alertsEnabled = true;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobconnect.event;
+
+import lombok.Value;
+
+/**
+ * Published when an applicant's searchable profile changes: on registration,
+ * on a profile edit, and once text has been extracted from a newly uploaded
+ * resume. Carries only the id; listeners reload what they need after commit.
+ */
+@Value
+public class ApplicantProfileChangedEvent {
+    Long applicantId;
+}
@@ -0,0 +1,54 @@
+package com.jobconnect.event;
+
+import lombok.Value;
+
+/**
+ * A committed change made on another node, as delivered by a
+ * {@link ChangeEventBus}. Carries only what was changed; subscribers reload
+ * anything else they need.
+ */
+@Value
+public class ChangeEvent {
+
+    /** What changed; the entity id's meaning depends on the kind. */
+    public enum Entity {
+        /** A job; {@code removed} when it is closed or deleted. */
+        JOB(1),
+        /** The set of applications to a job, by job id. */
+        JOB_APPLICATIONS(2),
+        /** An applicant's profile. */
+        APPLICANT(3),
+        /** The set of jobs an applicant has applied to, by applicant id. */
+        APPLIED_JOBS(4),
+        /** An employer account. */
+        EMPLOYER(5),
+        /** A saved search; {@code removed} when it is deleted or its alerts are off. */
+        SAVED_SEARCH(6),
+        /** A token_revocations row, by id. */
+        TOKEN_REVOCATION(7);
+
+        private final byte code;
+
+        Entity(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte code() {
+            return code;
+        }
+
+        public static Entity fromCode(byte code) {
+            for (Entity entity : values()) {
+                if (entity.code == code) {
+                    return entity;
+                }
+            }
+            return null;
+        }
+    }
+
+    long sequence;
+    Entity entity;
+    long entityId;
+    boolean removed;
+}
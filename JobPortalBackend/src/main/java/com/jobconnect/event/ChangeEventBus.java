@@ -0,0 +1,28 @@
+package com.jobconnect.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Tells the other nodes about committed changes, so their in-process caches
+ * can drop or reload what changed. Local caches keep listening to Spring
+ * events; the bus only delivers changes made elsewhere.
+ */
+public interface ChangeEventBus {
+
+    /**
+     * Records a change. Inside a transaction it is only sent if the
+     * transaction commits; outside one it is sent right away.
+     */
+    void publish(ChangeEvent.Entity entity, long entityId, boolean removed);
+
+    /**
+     * Runs {@code onChange} for each change to {@code entity} made on another
+     * node, and {@code onResync} when this node fell too far behind to know
+     * what it missed; the subscriber should then drop or rebuild everything
+     * it holds for that entity.
+     */
+    void subscribe(ChangeEvent.Entity entity, Consumer<ChangeEvent> onChange, Runnable onResync);
+
+    /** Milliseconds this node may be behind the other nodes' committed changes. */
+    long lagMillis();
+}
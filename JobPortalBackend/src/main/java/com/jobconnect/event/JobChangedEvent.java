@@ -0,0 +1,32 @@
+package com.jobconnect.event;
+
+import com.jobconnect.entity.Job;
+import lombok.Value;
+
+/**
+ * Published by {@code JobService} whenever a job is created, edited, closed or
+ * deleted. Listeners that keep in-memory views of jobs should subscribe with
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+@Value
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        CLOSED,
+        DELETED
+    }
+
+    Type type;
+    Job job;
+
+    public Long getJobId() {
+        return job.getId();
+    }
+
+    /** True when the job can still be applied to after this change. */
+    public boolean isActive() {
+        return type != Type.DELETED && "ACTIVE".equals(job.getStatus());
+    }
+}
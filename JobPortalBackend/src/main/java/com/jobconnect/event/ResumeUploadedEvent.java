@@ -0,0 +1,12 @@
+package com.jobconnect.event;
+
+import lombok.Value;
+
+/** Published by {@code ResumeService} when an upload becomes an applicant's current resume. */
+@Value
+public class ResumeUploadedEvent {
+    Long applicantId;
+    Long resumeId;
+    String sha256;
+    String contentType;
+}
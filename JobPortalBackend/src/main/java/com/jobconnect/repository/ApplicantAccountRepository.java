@@ -1,12 +1,27 @@
 package com.jobconnect.repository;
 
+import com.jobconnect.dto.TalentIndexRow;
 import com.jobconnect.entity.ApplicantAccount;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ApplicantAccountRepository extends JpaRepository<ApplicantAccount, Long> {
 
     Optional<ApplicantAccount> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // Searchable profile text with extracted resume text, in id order, for the talent index
+    @Query("SELECT new com.jobconnect.dto.TalentIndexRow(a.id, a.skills, a.experience, a.education, a.bio, t.text) " +
+           "FROM ApplicantAccount a LEFT JOIN ResumeText t ON t.applicantId = a.id " +
+           "WHERE a.id > :afterId ORDER BY a.id")
+    List<TalentIndexRow> findTalentIndexRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.jobconnect.dto.TalentIndexRow(a.id, a.skills, a.experience, a.education, a.bio, t.text) " +
+           "FROM ApplicantAccount a LEFT JOIN ResumeText t ON t.applicantId = a.id WHERE a.id = :id")
+    Optional<TalentIndexRow> findTalentIndexRow(@Param("id") Long id);
 }
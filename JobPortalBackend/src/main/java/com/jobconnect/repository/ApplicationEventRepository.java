@@ -0,0 +1,19 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.entity.ApplicationEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ApplicationEventRepository extends JpaRepository<ApplicationEvent, Long> {
+
+    // One application's history, oldest first; served by (application_id, ts)
+    List<ApplicationEvent> findByApplicationIdOrderByTsAscIdAsc(Long applicationId);
+
+    @Modifying
+    @Query("DELETE FROM ApplicationEvent e WHERE e.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,55 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.dto.FunnelStageRow;
+import com.jobconnect.entity.ApplicationFunnelStats;
+import com.jobconnect.entity.ApplicationFunnelStatsId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ApplicationFunnelStatsRepository extends JpaRepository<ApplicationFunnelStats, ApplicationFunnelStatsId> {
+
+    // Count an entry into a stage, creating the row on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_funnel_stats"))
+    @Query(value = "INSERT INTO application_funnel_stats (job_id, stage, employer_id, entered, reached, exited, time_in_stage_ms) " +
+            "VALUES (:jobId, :stage, :employerId, 1, :reached, 0, 0) " +
+            "ON DUPLICATE KEY UPDATE entered = entered + 1, reached = reached + :reached",
+            nativeQuery = true)
+    int recordEntry(@Param("jobId") Long jobId,
+                    @Param("employerId") Long employerId,
+                    @Param("stage") byte stage,
+                    @Param("reached") int reached);
+
+    // Count an exit from a stage along with the time spent in it
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_funnel_stats"))
+    @Query(value = "INSERT INTO application_funnel_stats (job_id, stage, employer_id, entered, reached, exited, time_in_stage_ms) " +
+            "VALUES (:jobId, :stage, :employerId, 0, 0, 1, :millis) " +
+            "ON DUPLICATE KEY UPDATE exited = exited + 1, time_in_stage_ms = time_in_stage_ms + :millis",
+            nativeQuery = true)
+    int recordExit(@Param("jobId") Long jobId,
+                   @Param("employerId") Long employerId,
+                   @Param("stage") byte stage,
+                   @Param("millis") long millis);
+
+    @Query("SELECT new com.jobconnect.dto.FunnelStageRow(f.id.stage, f.entered, f.reached, f.exited, f.timeInStageMs) " +
+            "FROM ApplicationFunnelStats f WHERE f.id.jobId = :jobId")
+    List<FunnelStageRow> findByJobId(@Param("jobId") Long jobId);
+
+    // An employer's funnel across all of their jobs
+    @Query("SELECT new com.jobconnect.dto.FunnelStageRow(f.id.stage, SUM(f.entered), SUM(f.reached), " +
+            "SUM(f.exited), SUM(f.timeInStageMs)) " +
+            "FROM ApplicationFunnelStats f WHERE f.employerId = :employerId GROUP BY f.id.stage")
+    List<FunnelStageRow> findByEmployerId(@Param("employerId") Long employerId);
+
+    @Modifying
+    @Query("DELETE FROM ApplicationFunnelStats f WHERE f.id.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
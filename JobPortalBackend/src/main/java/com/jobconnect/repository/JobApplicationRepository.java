@@ -1,5 +1,8 @@
 package com.jobconnect.repository;
 
+import com.jobconnect.dto.AppliedJobRow;
+import com.jobconnect.dto.ApplicationExportRow;
+import com.jobconnect.dto.CandidateRow;
 import com.jobconnect.entity.ApplicantAccount;
 import com.jobconnect.entity.EmployerAccount;
 import com.jobconnect.entity.Job;
@@ -8,10 +11,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
@@ -41,6 +50,40 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // Check if user has applied for a job
     boolean existsByApplicantAndJob(ApplicantAccount applicant, Job job);
     
+    // Profile text of every applicant to a job, for candidate ranking
+    @Query("SELECT new com.jobconnect.dto.CandidateRow(ja.id, a.id, a.skills, a.experience, a.education, " +
+            "a.bio, ja.coverLetter) FROM JobApplication ja JOIN ja.applicant a WHERE ja.job.id = :jobId")
+    List<CandidateRow> findCandidateRows(@Param("jobId") Long jobId);
+
+    // Stream flattened applications for an employer's export; MIN_VALUE fetch size makes MySQL stream rows
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.jobconnect.dto.ApplicationExportRow(ja.id, j.id, j.title, a.id, a.fullName, a.email, " +
+            "a.phone, ja.status, ja.resumeUrl, ja.appliedAt, ja.updatedAt) " +
+            "FROM JobApplication ja JOIN ja.job j JOIN ja.applicant a " +
+            "WHERE j.employer.id = :employerId " +
+            "AND (:jobId IS NULL OR j.id = :jobId) " +
+            "AND (:status IS NULL OR ja.status = :status) " +
+            "ORDER BY ja.id")
+    Stream<ApplicationExportRow> streamExportRows(@Param("employerId") Long employerId,
+                                                  @Param("jobId") Long jobId,
+                                                  @Param("status") String status);
+
+    // Ids of every job an applicant has applied to
+    @Query("SELECT ja.job.id FROM JobApplication ja WHERE ja.applicant.id = :applicantId")
+    List<Long> findJobIdsByApplicantId(@Param("applicantId") Long applicantId);
+
+    // Applicant's applications among the given jobs
+    @Query("SELECT new com.jobconnect.dto.AppliedJobRow(ja.job.id, ja.id, ja.status) FROM JobApplication ja " +
+            "WHERE ja.applicant.id = :applicantId AND ja.job.id IN :jobIds")
+    List<AppliedJobRow> findAppliedRows(@Param("applicantId") Long applicantId, @Param("jobIds") Collection<Long> jobIds);
+
+    // Whether the resume was submitted with an application to one of the employer's jobs
+    @Query("SELECT COUNT(ja) > 0 FROM JobApplication ja WHERE ja.resume.id = :resumeId AND ja.job.employer.id = :employerId")
+    boolean existsByResumeIdAndEmployerId(@Param("resumeId") Long resumeId, @Param("employerId") Long employerId);
+    
     // Count applications by status for a job
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job = :job AND ja.status = :status")
     Long countByJobAndStatus(@Param("job") Job job, @Param("status") String status);
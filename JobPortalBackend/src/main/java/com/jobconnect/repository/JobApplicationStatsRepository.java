@@ -0,0 +1,64 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.dto.JobStatsRow;
+import com.jobconnect.entity.JobApplicationStats;
+import com.jobconnect.entity.JobApplicationStatsId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, JobApplicationStatsId> {
+
+    // Add delta to a job/status counter, creating the row on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_stats"))
+    @Query(value = "INSERT INTO job_application_stats (job_id, status, employer_id, application_count, last_applied_at) " +
+            "VALUES (:jobId, :status, :employerId, GREATEST(:delta, 0), :appliedAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "application_count = GREATEST(application_count + :delta, 0), " +
+            "last_applied_at = GREATEST(COALESCE(last_applied_at, :appliedAt), COALESCE(:appliedAt, last_applied_at))",
+            nativeQuery = true)
+    int addToCount(@Param("jobId") Long jobId,
+                   @Param("employerId") Long employerId,
+                   @Param("status") String status,
+                   @Param("delta") long delta,
+                   @Param("appliedAt") LocalDateTime appliedAt);
+
+    // All of an employer's jobs with their status counters, in one query
+    @Query("SELECT new com.jobconnect.dto.JobStatsRow(j.id, j.title, j.status, j.createdAt, " +
+            "s.id.status, s.applicationCount, s.lastAppliedAt) " +
+            "FROM Job j LEFT JOIN JobApplicationStats s ON s.id.jobId = j.id " +
+            "WHERE j.employer.id = :employerId " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobStatsRow> findDashboardRows(@Param("employerId") Long employerId);
+
+    // Total applications for a job across all statuses
+    @Query("SELECT COALESCE(SUM(s.applicationCount), 0) FROM JobApplicationStats s WHERE s.id.jobId = :jobId")
+    Long sumByJobId(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationStats s WHERE s.id.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_stats"))
+    @Query(value = "DELETE FROM job_application_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    // Recompute every counter from job_applications
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_stats"))
+    @Query(value = "INSERT INTO job_application_stats (job_id, status, employer_id, application_count, last_applied_at) " +
+            "SELECT ja.job_id, ja.status, j.employer_id, COUNT(*), MAX(ja.applied_at) " +
+            "FROM job_applications ja JOIN jobs j ON j.id = ja.job_id " +
+            "GROUP BY ja.job_id, ja.status, j.employer_id",
+            nativeQuery = true)
+    int insertFromApplications();
+}
@@ -1,25 +1,50 @@
 package com.jobconnect.repository;
 
 import com.jobconnect.entity.Job;
+import com.jobconnect.dto.JobDeadlineRow;
+import com.jobconnect.dto.JobIndexRow;
+import com.jobconnect.dto.JobVersionRow;
 import com.jobconnect.entity.EmployerAccount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
 
     // Find jobs by employer
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Job> findByEmployer(EmployerAccount employer);
     
     // Find active jobs
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Job> findByStatus(String status, Pageable pageable);
     
+    // Id and version of each job in a page of active jobs; the bodies come from the JSON cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.jobconnect.dto.JobVersionRow(j.id, j.updatedAt, e.updatedAt) " +
+           "FROM Job j JOIN j.employer e WHERE j.status = :status",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.status = :status")
+    Page<JobVersionRow> findVersionsByStatus(@Param("status") String status, Pageable pageable);
+
+    // Version of a single job, for answering conditional requests without loading it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.jobconnect.dto.JobVersionRow(j.id, j.updatedAt, e.updatedAt) " +
+           "FROM Job j JOIN j.employer e WHERE j.id = :id")
+    Optional<JobVersionRow> findVersion(@Param("id") Long id);
+
     // Find jobs by multiple criteria
     @Query("SELECT j FROM Job j WHERE " +
             "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -44,6 +69,32 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     @Query("SELECT j FROM Job j WHERE j.applicationDeadline <= :deadline AND j.status = 'ACTIVE'")
     List<Job> findJobsWithDeadlineApproaching(@Param("deadline") LocalDateTime deadline);
     
+    // Text fields of active jobs in id order, for building in-memory indexes
+    @Query("SELECT new com.jobconnect.dto.JobIndexRow(j.id, j.title, j.skills, j.description) " +
+           "FROM Job j WHERE j.status = 'ACTIVE' AND j.id > :afterId ORDER BY j.id")
+    List<JobIndexRow> findIndexRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.jobconnect.dto.JobIndexRow(j.id, j.title, j.skills, j.description) " +
+           "FROM Job j WHERE j.status = 'ACTIVE' AND j.id = :id")
+    Optional<JobIndexRow> findIndexRow(@Param("id") Long id);
+
+    // Deadlines of active jobs, for loading the expiry timers at startup
+    @Query("SELECT new com.jobconnect.dto.JobDeadlineRow(j.id, j.applicationDeadline) " +
+           "FROM Job j WHERE j.status = 'ACTIVE' AND j.applicationDeadline IS NOT NULL")
+    List<JobDeadlineRow> findActiveDeadlines();
+
+    // One active job's deadline, read past the second-level cache for changes made on other nodes
+    @Query("SELECT new com.jobconnect.dto.JobDeadlineRow(j.id, j.applicationDeadline) " +
+           "FROM Job j WHERE j.id = :id AND j.status = 'ACTIVE' AND j.applicationDeadline IS NOT NULL")
+    Optional<JobDeadlineRow> findActiveDeadline(@Param("id") Long id);
+
+    // Close the given jobs whose deadline has passed; jobs extended or closed meanwhile are left alone
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = 'CLOSED', j.updatedAt = :now " +
+           "WHERE j.id IN :ids AND j.status = 'ACTIVE' AND j.applicationDeadline <= :now")
+    int closeExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     // Find recently posted jobs
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Job> findTop10ByStatusOrderByCreatedAtDesc(String status);
 }
@@ -1,11 +1,20 @@
 package com.jobconnect.repository;
 
+import com.jobconnect.dto.NotificationVersion;
 import com.jobconnect.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByApplicantIdOrderByCreatedAtDesc(Long applicantId);
     long countByApplicantIdAndReadFalse(Long applicantId);
+
+    // Changes whenever a notification is added or its read flag flips; used as the list's ETag
+    @Query("SELECT new com.jobconnect.dto.NotificationVersion(COUNT(n), " +
+           "SUM(CASE WHEN n.read = false THEN 1L ELSE 0L END), MAX(n.createdAt)) " +
+           "FROM Notification n WHERE n.applicant.id = :applicantId")
+    NotificationVersion findVersion(@Param("applicantId") Long applicantId);
 }
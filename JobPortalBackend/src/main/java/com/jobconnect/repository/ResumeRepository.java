@@ -0,0 +1,11 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.entity.Resume;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ResumeRepository extends JpaRepository<Resume, Long> {
+
+    // The applicant's most recent upload
+    Optional<Resume> findFirstByApplicantIdOrderByUploadedAtDescIdDesc(Long applicantId);
+}
@@ -0,0 +1,7 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.entity.ResumeText;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ResumeTextRepository extends JpaRepository<ResumeText, Long> {
+}
@@ -0,0 +1,56 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.entity.Job;
+import com.jobconnect.entity.SavedJob;
+import com.jobconnect.entity.SavedJobId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SavedJobRepository extends JpaRepository<SavedJob, SavedJobId> {
+
+    // Insert a single saved_jobs row. Returns 1 for a new row and 0 when the row already
+    // exists or the job or applicant does not (IGNORE turns both errors into warnings)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "saved_jobs"))
+    @Query(value = "INSERT IGNORE INTO saved_jobs (applicant_id, job_id, saved_at) VALUES (:applicantId, :jobId, :savedAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("applicantId") Long applicantId,
+                       @Param("jobId") Long jobId,
+                       @Param("savedAt") LocalDateTime savedAt);
+
+    @Modifying
+    @Query("DELETE FROM SavedJob s WHERE s.id.applicantId = :applicantId AND s.id.jobId = :jobId")
+    int deleteOne(@Param("applicantId") Long applicantId, @Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM SavedJob s WHERE s.id.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    // Saved jobs for an applicant, most recently saved first
+    @Query("SELECT s.job FROM SavedJob s WHERE s.id.applicantId = :applicantId ORDER BY s.savedAt DESC, s.id.jobId DESC")
+    List<Job> findSavedJobs(@Param("applicantId") Long applicantId);
+
+    @Query(value = "SELECT s.job FROM SavedJob s WHERE s.id.applicantId = :applicantId ORDER BY s.savedAt DESC, s.id.jobId DESC",
+            countQuery = "SELECT COUNT(s) FROM SavedJob s WHERE s.id.applicantId = :applicantId")
+    Page<Job> findSavedJobs(@Param("applicantId") Long applicantId, Pageable pageable);
+
+    // Applicants who saved a job but have not applied to it
+    @Query("SELECT s.id.applicantId FROM SavedJob s WHERE s.id.jobId = :jobId AND NOT EXISTS " +
+            "(SELECT 1 FROM JobApplication a WHERE a.job.id = :jobId AND a.applicant.id = s.id.applicantId)")
+    List<Long> findApplicantIdsWithoutApplication(@Param("jobId") Long jobId);
+
+    // Which of the given jobs the applicant has saved
+    @Query("SELECT s.id.jobId FROM SavedJob s WHERE s.id.applicantId = :applicantId AND s.id.jobId IN :jobIds")
+    List<Long> findSavedJobIds(@Param("applicantId") Long applicantId, @Param("jobIds") Collection<Long> jobIds);
+}
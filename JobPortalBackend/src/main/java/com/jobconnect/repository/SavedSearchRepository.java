@@ -0,0 +1,17 @@
+package com.jobconnect.repository;
+
+import com.jobconnect.entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByApplicantIdOrderByCreatedAtDesc(Long applicantId);
+
+    long countByApplicantId(Long applicantId);
+
+    // Alert-enabled searches in id order, for building the match index in batches
+    List<SavedSearch> findByAlertsEnabledTrueAndIdGreaterThanOrderById(Long afterId, Pageable pageable);
+}
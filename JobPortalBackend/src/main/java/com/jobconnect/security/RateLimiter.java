@@ -0,0 +1,142 @@
+package com.jobconnect.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process token buckets, one per (limit, key) pair. A bucket holds up to
+ * {@code capacity} tokens and refills continuously at capacity per period;
+ * each request takes one token. Bucket state is a single immutable snapshot
+ * swapped with compare-and-set, so acquiring never blocks.
+ *
+ * <p>Buckets untouched for longer than their refill period are full again and
+ * indistinguishable from new ones, so a periodic sweep drops them. If a flood
+ * of distinct keys still fills the store, further keys share one overflow
+ * bucket per limit until the sweep makes room, which keeps memory bounded and
+ * fails towards rejecting rather than admitting.
+ */
+@Component
+public class RateLimiter {
+
+    public static final String REJECTED_METRIC = "jobconnect.rate-limit.rejected";
+
+    private static final String OVERFLOW_KEY = "\u0000overflow";
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int maxBuckets;
+
+    public RateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.maxBuckets = maxBuckets;
+        Gauge.builder("jobconnect.rate-limit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    /** {@code capacity} requests per {@code period}, allowed in a burst. */
+    public record Limit(String name, int capacity, Duration period) {
+
+        public Limit {
+            if (capacity <= 0 || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("Rate limit " + name + " needs a positive capacity and period");
+            }
+        }
+
+        double tokensPerNano() {
+            return capacity / (double) period.toNanos();
+        }
+    }
+
+    private record State(double tokens, long updatedNanos) {
+    }
+
+    private static final class Bucket {
+
+        final Limit limit;
+        final AtomicReference<State> state;
+
+        Bucket(Limit limit, long nowNanos) {
+            this.limit = limit;
+            this.state = new AtomicReference<>(new State(limit.capacity(), nowNanos));
+        }
+
+        /** Takes a token and returns 0, or returns the nanoseconds until one is available. */
+        long tryAcquire(long nowNanos) {
+            double rate = limit.tokensPerNano();
+            while (true) {
+                State current = state.get();
+                long elapsed = Math.max(0, nowNanos - current.updatedNanos());
+                double tokens = Math.min(limit.capacity(), current.tokens() + elapsed * rate);
+                if (tokens < 1) {
+                    return (long) Math.ceil((1 - tokens) / rate);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long nowNanos) {
+            return nowNanos - state.get().updatedNanos() > limit.period().toNanos();
+        }
+    }
+
+    /**
+     * Takes a token from the bucket for {@code key} under {@code limit}.
+     * Returns {@link Duration#ZERO} when allowed, otherwise how long until the
+     * next token; rejections are counted per limit.
+     */
+    public Duration tryAcquire(Limit limit, String key) {
+        long now = System.nanoTime();
+        long waitNanos = bucket(limit, key, now).tryAcquire(now);
+        if (waitNanos == 0) {
+            return Duration.ZERO;
+        }
+        recordRejection(limit.name());
+        return Duration.ofNanos(waitNanos);
+    }
+
+    /** Like {@link #tryAcquire} but throws {@link RateLimitExceededException} when the bucket is empty. */
+    public void acquire(Limit limit, String key) {
+        Duration wait = tryAcquire(limit, key);
+        if (!wait.isZero()) {
+            throw new RateLimitExceededException("Too many requests. Please try again later.", wait);
+        }
+    }
+
+    public void recordRejection(String name) {
+        rejections.computeIfAbsent(name, n -> Counter.builder(REJECTED_METRIC)
+                .tag("limit", n)
+                .register(meterRegistry))
+            .increment();
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        // A request racing with removal spends a token from the dropped bucket; the next one starts full
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private Bucket bucket(Limit limit, String key, long now) {
+        String bucketKey = limit.name() + ':' + key;
+        Bucket bucket = buckets.get(bucketKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            bucketKey = limit.name() + ':' + OVERFLOW_KEY;
+        }
+        return buckets.computeIfAbsent(bucketKey, k -> new Bucket(limit, now));
+    }
+}
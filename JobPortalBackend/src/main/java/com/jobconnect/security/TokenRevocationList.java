@@ -0,0 +1,212 @@
+package com.jobconnect.security;
+
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revoked JWTs, checked on every authenticated request without touching the
+ * database.
+ *
+ * <p>A revocation is either one token, by its {@code jti}, or every token an
+ * account was issued before a cutoff ("log out all sessions"). Both are
+ * stored in token_revocations until the tokens they cover have expired, and
+ * held in memory as a snapshot: a {@link BloomFilter} of revoked ids, an
+ * exact map that confirms the filter's positives, and a map of per-account
+ * cutoffs. The check reads the volatile snapshot, hashes the id and probes
+ * the filter; almost every token stops there. Nothing on that path locks or
+ * allocates.
+ *
+ * <p>The snapshot is loaded before the first request and rebuilt after each
+ * prune, which is also what drops expired ids from the filter. Revocations
+ * made on other nodes arrive through the {@link ChangeEventBus}.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeEventBus changeEventBus;
+    private final int expectedTokens;
+    private final Object rebuildLock = new Object();
+    private volatile Snapshot snapshot;
+    // Revocations that arrive while a rebuild is loading, replayed onto the new snapshot; guarded by rebuildLock
+    private List<Revocation> pendingDuringRebuild;
+
+    public TokenRevocationList(
+            JdbcTemplate jdbcTemplate,
+            ChangeEventBus changeEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.auth.revocation.expected-tokens:100000}") int expectedTokens) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeEventBus = changeEventBus;
+        this.expectedTokens = expectedTokens;
+        this.snapshot = load();
+        changeEventBus.subscribe(ChangeEvent.Entity.TOKEN_REVOCATION, this::onRemoteRevocation, this::rebuild);
+        Gauge.builder("jobconnect.auth.revoked-tokens", this, list -> list.snapshot.revokedTokens.size())
+            .register(meterRegistry);
+    }
+
+    /** One row of token_revocations: a token id, or an account's cutoff. */
+    private record Revocation(String jti, String subject, long revokedBefore, long expiresAt) {
+    }
+
+    private static final class Snapshot {
+
+        final BloomFilter tokens;
+        final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+        final Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+
+        Snapshot(int expectedTokens) {
+            this.tokens = new BloomFilter(expectedTokens, FALSE_POSITIVE_RATE);
+        }
+
+        void add(Revocation revocation) {
+            if (revocation.jti() != null) {
+                // The exact entry goes first, so a token is never in the filter but missing from the map
+                revokedTokens.put(revocation.jti(), revocation.expiresAt());
+                tokens.add(BloomFilter.hash(revocation.jti()));
+            } else {
+                cutoffs.merge(revocation.subject(), revocation.revokedBefore(), Math::max);
+            }
+        }
+    }
+
+    /**
+     * Whether a token with this id, subject and issue time has been revoked.
+     * {@code iat} has one-second resolution, so a token issued in the same
+     * second as a "log out all sessions" counts as revoked.
+     */
+    public boolean isRevoked(String jti, String subject, long issuedAtMillis) {
+        Snapshot current = snapshot;
+        Long cutoff = subject != null ? current.cutoffs.get(subject) : null;
+        if (cutoff != null && issuedAtMillis < cutoff) {
+            return true;
+        }
+        return jti != null
+            && current.tokens.mightContain(BloomFilter.hash(jti))
+            && current.revokedTokens.containsKey(jti);
+    }
+
+    /** Revokes one token until it expires at {@code expiresAt} (epoch milliseconds). */
+    public void revokeToken(String jti, long expiresAt) {
+        Revocation revocation = new Revocation(jti, null, 0, expiresAt);
+        Long id = insert(revocation);
+        apply(revocation);
+        if (id != null) {
+            changeEventBus.publish(ChangeEvent.Entity.TOKEN_REVOCATION, id, false);
+        }
+    }
+
+    /** Revokes every token issued to {@code subject} so far; {@code tokenLifetime} bounds how long that matters. */
+    public void revokeAllTokens(String subject, Duration tokenLifetime) {
+        long now = System.currentTimeMillis();
+        // Rounded up to the next second, the resolution of iat
+        long revokedBefore = (now / 1000 + 1) * 1000;
+        Revocation revocation = new Revocation(null, subject, revokedBefore, revokedBefore + tokenLifetime.toMillis());
+        Long id = insert(revocation);
+        apply(revocation);
+        changeEventBus.publish(ChangeEvent.Entity.TOKEN_REVOCATION, id, false);
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.auth.revocation.prune-interval:PT1H}")
+    public void prune() {
+        jdbcTemplate.update("DELETE FROM token_revocations WHERE expires_at < ?", System.currentTimeMillis());
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Snapshot fresh;
+        try {
+            fresh = load();
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            pendingDuringRebuild.forEach(fresh::add);
+            pendingDuringRebuild = null;
+            snapshot = fresh;
+        }
+    }
+
+    private void onRemoteRevocation(ChangeEvent event) {
+        List<Revocation> rows = jdbcTemplate.query(
+            "SELECT jti, subject, revoked_before, expires_at FROM token_revocations WHERE id = ?",
+            ROW_MAPPER, event.getEntityId());
+        rows.forEach(this::apply);
+    }
+
+    private void apply(Revocation revocation) {
+        synchronized (rebuildLock) {
+            snapshot.add(revocation);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(revocation);
+            }
+        }
+    }
+
+    private Snapshot load() {
+        long now = System.currentTimeMillis();
+        List<Revocation> rows = jdbcTemplate.query(
+            "SELECT jti, subject, revoked_before, expires_at FROM token_revocations WHERE expires_at >= ?",
+            ROW_MAPPER, now);
+        // Room for twice the current revocations, so the filter stays sparse until the next rebuild
+        Snapshot fresh = new Snapshot(Math.max(expectedTokens, rows.size() * 2));
+        rows.forEach(fresh::add);
+        return fresh;
+    }
+
+    /** The new row's id, or null when the token was already revoked. */
+    private Long insert(Revocation revocation) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT IGNORE INTO token_revocations (jti, subject, revoked_before, expires_at) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, revocation.jti());
+            statement.setString(2, revocation.subject());
+            if (revocation.jti() != null) {
+                statement.setNull(3, java.sql.Types.BIGINT);
+            } else {
+                statement.setLong(3, revocation.revokedBefore());
+            }
+            statement.setLong(4, revocation.expiresAt());
+            return statement;
+        }, keyHolder);
+        return inserted == 0 || keyHolder.getKey() == null ? null : keyHolder.getKey().longValue();
+    }
+
+    private static final RowMapper<Revocation> ROW_MAPPER = (rs, rowNum) -> new Revocation(
+        rs.getString("jti"),
+        rs.getString("subject"),
+        rs.getLong("revoked_before"),
+        rs.getLong("expires_at"));
+}
@@ -0,0 +1,87 @@
+package com.jobconnect.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.jobconnect.dto.ApplicationExportRow;
+import com.jobconnect.entity.Job;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.util.CsvWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams an employer's applications straight from a forward-only cursor to
+ * the response, one flattened row at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private final JobApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    public void checkJobOwner(Long jobId, Long employerId) {
+        Job job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        if (!job.getEmployer().getId().equals(employerId)) {
+            throw new RuntimeException("Not authorized to export applications for this job");
+        }
+    }
+
+    public void export(Long employerId, Long jobId, String status, Format format, OutputStream out) throws IOException {
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamExportRows(employerId, jobId, status)) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), out);
+            } else {
+                writeNdjson(rows.iterator(), out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCsv(Iterator<ApplicationExportRow> rows, OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        csv.writeRecord("applicationId", "jobId", "jobTitle", "applicantId", "applicantName", "applicantEmail",
+            "applicantPhone", "status", "resumeUrl", "appliedAt", "updatedAt");
+        while (rows.hasNext()) {
+            ApplicationExportRow row = rows.next();
+            csv.writeRecord(row.getApplicationId(), row.getJobId(), row.getJobTitle(), row.getApplicantId(),
+                row.getApplicantName(), row.getApplicantEmail(), row.getApplicantPhone(), row.getStatus(),
+                row.getResumeUrl(), row.getAppliedAt(), row.getUpdatedAt());
+        }
+        csv.flush();
+    }
+
+    private void writeNdjson(Iterator<ApplicationExportRow> rows, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+            }
+            writer.flush();
+        }
+        out.write('\n');
+    }
+}
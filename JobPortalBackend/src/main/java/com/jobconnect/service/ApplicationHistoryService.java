@@ -0,0 +1,185 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.ApplicationFunnelResponse;
+import com.jobconnect.dto.ApplicationTimelineEntry;
+import com.jobconnect.dto.FunnelStageRow;
+import com.jobconnect.entity.ApplicationEvent;
+import com.jobconnect.entity.ApplicationStage;
+import com.jobconnect.entity.Job;
+import com.jobconnect.entity.JobApplication;
+import com.jobconnect.repository.ApplicationEventRepository;
+import com.jobconnect.repository.ApplicationFunnelStatsRepository;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.security.AccountPrincipal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes the application_events log and the funnel counters derived from
+ * it. Every write joins the caller's transaction, so history and counters
+ * commit or roll back together with the status change itself. Reads never
+ * touch job_applications beyond the ownership check: a timeline is one
+ * application's events, and a funnel is a handful of counter rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApplicationHistoryService {
+
+    private final ApplicationEventRepository eventRepository;
+    private final ApplicationFunnelStatsRepository funnelRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+
+    public void recordApplied(JobApplication application) {
+        append(application, null, ApplicationStage.fromStatus(application.getStatus()), null);
+    }
+
+    /**
+     * Records a status change. {@code previousChangedAt} is when the previous
+     * status was set; it is only used for applications whose history predates
+     * the event log.
+     */
+    public void recordStatusChange(JobApplication application, String previousStatus, LocalDateTime previousChangedAt) {
+        ApplicationStage from = ApplicationStage.fromStatus(previousStatus);
+        ApplicationStage to = ApplicationStage.fromStatus(application.getStatus());
+        if (from != to) {
+            append(application, from, to, previousChangedAt);
+        }
+    }
+
+    public void recordWithdrawn(JobApplication application) {
+        append(application, ApplicationStage.fromStatus(application.getStatus()), ApplicationStage.WITHDRAWN,
+            application.getUpdatedAt());
+    }
+
+    public void removeJob(Long jobId) {
+        funnelRepository.deleteByJobId(jobId);
+        eventRepository.deleteByJobId(jobId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicationTimelineEntry> getTimeline(Long applicationId, AccountPrincipal principal) {
+        JobApplication application = applicationRepository.findById(applicationId)
+            .orElseThrow(() -> new RuntimeException("Application not found"));
+        boolean allowed = principal.getRole().isApplicant()
+            ? application.getApplicant().getId().equals(principal.getId())
+            : application.getJob().getEmployer().getId().equals(principal.getId());
+        if (!allowed) {
+            throw new RuntimeException("Not authorized to view this application");
+        }
+
+        List<ApplicationEvent> events = eventRepository.findByApplicationIdOrderByTsAscIdAsc(applicationId);
+        long now = System.currentTimeMillis();
+        List<ApplicationTimelineEntry> timeline = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            ApplicationEvent event = events.get(i);
+            boolean current = i == events.size() - 1;
+            long until = current ? now : events.get(i + 1).getTs();
+            timeline.add(ApplicationTimelineEntry.builder()
+                .status(ApplicationStage.fromCode(event.getToStage()).name())
+                .previousStatus(event.getFromStage() != null ? ApplicationStage.fromCode(event.getFromStage()).name() : null)
+                .at(Instant.ofEpochMilli(event.getTs()))
+                .durationMs(Math.max(until - event.getTs(), 0))
+                .current(current)
+                .build());
+        }
+        return timeline;
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationFunnelResponse getJobFunnel(Long jobId, Long employerId) {
+        Job job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getEmployer().getId().equals(employerId)) {
+            throw new RuntimeException("Not authorized to view this job's funnel");
+        }
+        return toFunnel(jobId, funnelRepository.findByJobId(jobId));
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationFunnelResponse getEmployerFunnel(Long employerId) {
+        return toFunnel(null, funnelRepository.findByEmployerId(employerId));
+    }
+
+    private void append(JobApplication application, ApplicationStage from, ApplicationStage to,
+                        LocalDateTime legacyEnteredAt) {
+        Long applicationId = application.getId();
+        Long jobId = application.getJob().getId();
+        Long employerId = application.getJob().getEmployer().getId();
+        long now = System.currentTimeMillis();
+
+        // An application has a handful of events, read through (application_id, ts)
+        List<ApplicationEvent> history = from == null
+            ? List.of()
+            : eventRepository.findByApplicationIdOrderByTsAscIdAsc(applicationId);
+        boolean firstVisit = history.stream().noneMatch(event -> event.getToStage() == to.code());
+
+        ApplicationEvent event = new ApplicationEvent();
+        event.setApplicationId(applicationId);
+        event.setJobId(jobId);
+        event.setFromStage(from != null ? from.code() : null);
+        event.setToStage(to.code());
+        event.setTs(now);
+        eventRepository.save(event);
+
+        if (from != null) {
+            Long enteredAt = !history.isEmpty() ? Long.valueOf(history.get(history.size() - 1).getTs())
+                : legacyEnteredAt != null ? toMillis(legacyEnteredAt) : null;
+            funnelRepository.recordExit(jobId, employerId, from.code(),
+                enteredAt != null ? Math.max(now - enteredAt, 0) : 0);
+        }
+        funnelRepository.recordEntry(jobId, employerId, to.code(), firstVisit ? 1 : 0);
+    }
+
+    private static ApplicationFunnelResponse toFunnel(Long jobId, List<FunnelStageRow> rows) {
+        Map<ApplicationStage, FunnelStageRow> byStage = new EnumMap<>(ApplicationStage.class);
+        for (FunnelStageRow row : rows) {
+            byStage.put(ApplicationStage.fromCode(row.getStage()), row);
+        }
+        // Every application enters PENDING exactly once, so its reach is the number of applications
+        FunnelStageRow pending = byStage.get(ApplicationStage.PENDING);
+        long applications = pending != null ? value(pending.getReached()) : 0;
+
+        List<ApplicationFunnelResponse.Stage> stages = new ArrayList<>();
+        for (ApplicationStage stage : ApplicationStage.values()) {
+            FunnelStageRow row = byStage.get(stage);
+            long entered = row != null ? value(row.getEntered()) : 0;
+            long reached = row != null ? value(row.getReached()) : 0;
+            long exited = row != null ? value(row.getExited()) : 0;
+            long timeInStage = row != null ? value(row.getTimeInStageMs()) : 0;
+            stages.add(ApplicationFunnelResponse.Stage.builder()
+                .status(stage.name())
+                .entered(entered)
+                .reached(reached)
+                .exited(exited)
+                .current(Math.max(entered - exited, 0))
+                .conversionRate(applications == 0 ? 0 : Math.round(1000.0 * reached / applications) / 1000.0)
+                .averageTimeInStageMs(exited == 0 ? null : timeInStage / exited)
+                .build());
+        }
+
+        return ApplicationFunnelResponse.builder()
+            .jobId(jobId)
+            .applications(applications)
+            .stages(stages)
+            .build();
+    }
+
+    private static long value(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -2,30 +2,53 @@ package com.jobconnect.service;
 
 import com.jobconnect.dto.ApplicationCreateRequest;
 import com.jobconnect.dto.ApplicationStatusUpdateRequest;
+import com.jobconnect.dto.AppliedJobRow;
+import com.jobconnect.dto.JobStatusFlags;
+import com.jobconnect.dto.RankedApplication;
 import com.jobconnect.entity.ApplicantAccount;
 import com.jobconnect.entity.EmployerAccount;
 import com.jobconnect.entity.Job;
 import com.jobconnect.entity.JobApplication;
 import com.jobconnect.repository.JobApplicationRepository;
 import com.jobconnect.repository.JobRepository;
+import com.jobconnect.repository.SavedJobRepository;
+import com.jobconnect.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ApplicationService {
 
+    public static final int MAX_RANKED_LIMIT = 500;
+
     private final JobApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final AccountService accountService;
     private final NotificationService notificationService;
+    private final ApplicationStatsService applicationStatsService;
+    private final ApplicationHistoryService applicationHistoryService;
+    private final SavedJobRepository savedJobRepository;
+    private final AppliedJobsCache appliedJobsCache;
+    private final CandidateRanker candidateRanker;
+    private final ResumeService resumeService;
+    private final TrendingJobTracker trendingJobTracker;
 
     public JobApplication applyForJob(ApplicationCreateRequest request, Long applicantId) {
         ApplicantAccount applicant = accountService.requireApplicant(applicantId);
@@ -36,23 +59,46 @@ public class ApplicationService {
         if (!"ACTIVE".equals(job.getStatus())) {
             throw new RuntimeException("This job is no longer accepting applications");
         }
-        
-        // Check if already applied
-        Optional<JobApplication> existingApplication = 
-            applicationRepository.findByApplicantAndJob(applicant, job);
-        
-        if (existingApplication.isPresent()) {
-            throw new RuntimeException("You have already applied for this job");
+
+        // The expiry timer closes the job shortly after the deadline; refuse late applications until it does
+        if (job.getApplicationDeadline() != null && job.getApplicationDeadline().isBefore(LocalDateTime.now())) {
+            throw new RuntimeException("The application deadline for this job has passed");
         }
-        
+
         JobApplication application = new JobApplication();
         application.setJob(job);
         application.setApplicant(applicant);
         application.setCoverLetter(request.getCoverLetter());
         application.setResumeUrl(request.getResumeUrl() != null ? 
             request.getResumeUrl() : applicant.getResumeUrl());
+        application.setResume(resumeService.resolveUploadedResume(application.getResumeUrl(), applicantId));
         
-        return applicationRepository.save(application);
+        // The unique (applicant_id, job_id) constraint rejects duplicates, including concurrent double submits
+        JobApplication saved;
+        try {
+            saved = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new RuntimeException("You have already applied for this job");
+            }
+            throw e;
+        }
+        applicationStatsService.recordApplied(saved);
+        applicationHistoryService.recordApplied(saved);
+        appliedJobsCache.evict(applicantId);
+        candidateRanker.evictJob(job.getId());
+        TransactionHooks.afterCommit(() -> trendingJobTracker.record(job.getId(), TrendingJobTracker.Signal.APPLY));
+        return saved;
+    }
+
+    private boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                return constraint != null && constraint.contains(JobApplication.APPLICANT_JOB_CONSTRAINT);
+            }
+        }
+        return false;
     }
 
     public void withdrawApplication(Long applicationId, Long applicantId) {
@@ -63,7 +109,11 @@ public class ApplicationService {
             throw new RuntimeException("Not authorized to withdraw this application");
         }
         
+        applicationStatsService.recordWithdrawn(application);
+        applicationHistoryService.recordWithdrawn(application);
         applicationRepository.delete(application);
+        appliedJobsCache.evict(applicantId);
+        candidateRanker.evictJob(application.getJob().getId());
     }
 
     public JobApplication updateApplicationStatus(Long applicationId, 
@@ -76,10 +126,14 @@ public class ApplicationService {
             throw new RuntimeException("Not authorized to update this application");
         }
         
+        String previousStatus = application.getStatus();
+        LocalDateTime previousChangedAt = application.getUpdatedAt();
         application.setStatus(request.getStatus());
         application.setNotes(request.getNotes());
 
         JobApplication saved = applicationRepository.save(application);
+        applicationStatsService.recordStatusChange(saved, previousStatus);
+        applicationHistoryService.recordStatusChange(saved, previousStatus, previousChangedAt);
 
         // Notify applicant about status change
         ApplicantAccount applicant = saved.getApplicant();
@@ -109,11 +163,13 @@ public class ApplicationService {
         return base;
     }
 
+    @Transactional(readOnly = true)
     public Page<JobApplication> getApplicationsByApplicant(Long applicantId, Pageable pageable) {
         ApplicantAccount applicant = accountService.requireApplicant(applicantId);
         return applicationRepository.findByApplicant(applicant, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplication> getApplicationsByJob(Long jobId, Long employerId) {
         Job job = jobRepository.findById(jobId)
             .orElseThrow(() -> new RuntimeException("Job not found"));
@@ -125,29 +181,99 @@ public class ApplicationService {
         return applicationRepository.findByJob(job);
     }
 
+    // A job's applications ordered by how well each applicant fits the posting
+    @Transactional(readOnly = true)
+    public List<RankedApplication> getRankedApplications(Long jobId, Long employerId, int limit) {
+        Job job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        if (!job.getEmployer().getId().equals(employerId)) {
+            throw new RuntimeException("Not authorized to view applications for this job");
+        }
+
+        List<CandidateRanker.Candidate> candidates = candidateRanker.rank(job, limit);
+        Map<Long, JobApplication> applications = new HashMap<>();
+        for (JobApplication application : applicationRepository.findAllById(
+                candidates.stream().map(CandidateRanker.Candidate::applicationId).toList())) {
+            applications.put(application.getId(), application);
+        }
+
+        List<RankedApplication> ranked = new ArrayList<>(candidates.size());
+        for (CandidateRanker.Candidate candidate : candidates) {
+            JobApplication application = applications.get(candidate.applicationId());
+            if (application == null) {
+                continue;
+            }
+            ranked.add(RankedApplication.builder()
+                .application(application)
+                .score(candidate.score())
+                .matchedSkills(candidate.matchedSkills())
+                .requiredSkills(candidate.requiredSkills())
+                .matchedKeywords(candidate.matchedKeywords())
+                .experienceYears(candidate.experienceYears() >= 0 ? candidate.experienceYears() : null)
+                .build());
+        }
+        return ranked;
+    }
+
+    @Transactional(readOnly = true)
     public Page<JobApplication> getApplicationsByEmployer(Long employerId, Pageable pageable) {
         EmployerAccount employer = accountService.requireEmployer(employerId);
         return applicationRepository.findByJobEmployer(employer, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<JobApplication> getApplicationById(Long applicationId) {
         return applicationRepository.findById(applicationId);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasApplied(Long applicantId, Long jobId) {
-        ApplicantAccount applicant = accountService.requireApplicant(applicantId);
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
-        
-        return applicationRepository.findByApplicantAndJob(applicant, job).isPresent();
+        return appliedJobsCache.hasApplied(applicantId, jobId);
+    }
+
+    // Applied/saved flags for a page of job cards: at most one IN query per relation
+    @Transactional(readOnly = true)
+    public List<JobStatusFlags> getJobStatusFlags(Long applicantId, List<Long> jobIds) {
+        Set<Long> requested = new LinkedHashSet<>(jobIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> appliedIds = new ArrayList<>();
+        for (Long jobId : requested) {
+            if (appliedJobsCache.hasApplied(applicantId, jobId)) {
+                appliedIds.add(jobId);
+            }
+        }
+        Map<Long, AppliedJobRow> applications = new HashMap<>();
+        if (!appliedIds.isEmpty()) {
+            for (AppliedJobRow row : applicationRepository.findAppliedRows(applicantId, appliedIds)) {
+                applications.put(row.getJobId(), row);
+            }
+        }
+        Set<Long> saved = new HashSet<>(savedJobRepository.findSavedJobIds(applicantId, requested));
+
+        List<JobStatusFlags> flags = new ArrayList<>(requested.size());
+        for (Long jobId : requested) {
+            AppliedJobRow application = applications.get(jobId);
+            flags.add(JobStatusFlags.builder()
+                .jobId(jobId)
+                .applied(application != null)
+                .saved(saved.contains(jobId))
+                .applicationId(application != null ? application.getApplicationId() : null)
+                .applicationStatus(application != null ? application.getStatus() : null)
+                .build());
+        }
+        return flags;
     }
 
+    @Transactional(readOnly = true)
     public Long countApplicationsByJob(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
-        return applicationRepository.countByJob(job);
+        return applicationStatsService.countForJob(jobId);
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplication> getApplicationsByStatus(String status, Long employerId) {
         EmployerAccount employer = accountService.requireEmployer(employerId);
         return applicationRepository.findByStatusAndJobEmployer(status, employer);
@@ -0,0 +1,155 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.EmployerDashboardResponse;
+import com.jobconnect.dto.JobDashboardEntry;
+import com.jobconnect.dto.JobStatsRow;
+import com.jobconnect.entity.JobApplication;
+import com.jobconnect.repository.JobApplicationStatsRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the job_application_stats summary table. Every write joins the
+ * caller's transaction, so the counters commit or roll back together with
+ * the application change that caused them.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApplicationStatsService {
+
+    private final JobApplicationStatsRepository statsRepository;
+
+    public void recordApplied(JobApplication application) {
+        statsRepository.addToCount(
+            application.getJob().getId(),
+            application.getJob().getEmployer().getId(),
+            application.getStatus(),
+            1,
+            application.getAppliedAt()
+        );
+    }
+
+    public void recordWithdrawn(JobApplication application) {
+        statsRepository.addToCount(
+            application.getJob().getId(),
+            application.getJob().getEmployer().getId(),
+            application.getStatus(),
+            -1,
+            null
+        );
+    }
+
+    public void recordStatusChange(JobApplication application, String previousStatus) {
+        if (previousStatus != null && previousStatus.equals(application.getStatus())) {
+            return;
+        }
+        Long jobId = application.getJob().getId();
+        Long employerId = application.getJob().getEmployer().getId();
+        if (previousStatus != null) {
+            statsRepository.addToCount(jobId, employerId, previousStatus, -1, null);
+        }
+        // Like rebuild(), a status row's last_applied_at is the latest appliedAt of the applications in it
+        statsRepository.addToCount(jobId, employerId, application.getStatus(), 1, application.getAppliedAt());
+    }
+
+    public void removeJob(Long jobId) {
+        statsRepository.deleteByJobId(jobId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countForJob(Long jobId) {
+        return statsRepository.sumByJobId(jobId);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployerDashboardResponse getDashboard(Long employerId) {
+        Map<Long, JobTotals> jobs = new LinkedHashMap<>();
+        Map<String, Long> statusTotals = new TreeMap<>();
+
+        for (JobStatsRow row : statsRepository.findDashboardRows(employerId)) {
+            JobTotals job = jobs.computeIfAbsent(row.getJobId(), id -> new JobTotals(row));
+            if (row.getApplicationStatus() == null || row.getApplicationCount() == null) {
+                continue;
+            }
+            job.add(row);
+            statusTotals.merge(row.getApplicationStatus(), row.getApplicationCount(), Long::sum);
+        }
+
+        List<JobDashboardEntry> entries = new ArrayList<>(jobs.size());
+        long totalApplications = 0;
+        int activeJobs = 0;
+        for (JobTotals job : jobs.values()) {
+            entries.add(job.toEntry());
+            totalApplications += job.total;
+            if ("ACTIVE".equals(job.first.getJobStatus())) {
+                activeJobs++;
+            }
+        }
+
+        return EmployerDashboardResponse.builder()
+            .totalJobs(entries.size())
+            .activeJobs(activeJobs)
+            .totalApplications(totalApplications)
+            .statusCounts(statusTotals)
+            .jobs(entries)
+            .build();
+    }
+
+    // Recompute all counters from job_applications to repair any drift
+    @Scheduled(cron = "${jobconnect.stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        statsRepository.deleteAllRows();
+        statsRepository.insertFromApplications();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (statsRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private static class JobTotals {
+
+        private final JobStatsRow first;
+        private final Map<String, Long> counts = new TreeMap<>();
+        private long total;
+        private LocalDateTime lastAppliedAt;
+
+        JobTotals(JobStatsRow first) {
+            this.first = first;
+        }
+
+        void add(JobStatsRow row) {
+            counts.put(row.getApplicationStatus(), row.getApplicationCount());
+            total += row.getApplicationCount();
+            if (row.getLastAppliedAt() != null
+                    && (lastAppliedAt == null || row.getLastAppliedAt().isAfter(lastAppliedAt))) {
+                lastAppliedAt = row.getLastAppliedAt();
+            }
+        }
+
+        JobDashboardEntry toEntry() {
+            return JobDashboardEntry.builder()
+                .jobId(first.getJobId())
+                .title(first.getTitle())
+                .status(first.getJobStatus())
+                .createdAt(first.getCreatedAt())
+                .totalApplications(total)
+                .statusCounts(counts)
+                .lastAppliedAt(lastAppliedAt)
+                .build();
+        }
+    }
+}
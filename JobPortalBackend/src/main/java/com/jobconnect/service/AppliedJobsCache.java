@@ -0,0 +1,120 @@
+package com.jobconnect.service;
+
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.util.TransactionHooks;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-applicant sorted {@code long[]} of the job ids they have applied to, so
+ * "have I applied?" checks are a binary search instead of a query. Entries
+ * are evicted when the applicant applies or withdraws, or a job they applied
+ * to is deleted, on this node or another, and the least recently used
+ * applicants are dropped once the cache is full.
+ */
+@Component
+public class AppliedJobsCache {
+
+    private final JobApplicationRepository applicationRepository;
+    private final ChangeEventBus changeEventBus;
+    private final Map<Long, long[]> jobIdsByApplicant;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AppliedJobsCache(
+            JobApplicationRepository applicationRepository,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.applied-jobs-cache.max-applicants:10000}") int maxApplicants) {
+        this.applicationRepository = applicationRepository;
+        this.changeEventBus = changeEventBus;
+        this.jobIdsByApplicant = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > maxApplicants;
+            }
+        };
+        changeEventBus.subscribe(ChangeEvent.Entity.APPLIED_JOBS, event -> evictNow(event.getEntityId()),
+            this::evictAllNow);
+        // JOB events are also sent when a job closes; evicting then only costs a reload
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, event -> {
+            if (event.isRemoved()) {
+                evictApplicantsOfJobNow(event.getEntityId());
+            }
+        }, this::evictAllNow);
+    }
+
+    public boolean hasApplied(Long applicantId, long jobId) {
+        return Arrays.binarySearch(getJobIds(applicantId), jobId) >= 0;
+    }
+
+    public long[] getJobIds(Long applicantId) {
+        synchronized (jobIdsByApplicant) {
+            long[] cached = jobIdsByApplicant.get(applicantId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long generation = evictions.get();
+        List<Long> loaded = applicationRepository.findJobIdsByApplicantId(applicantId);
+        long[] jobIds = new long[loaded.size()];
+        for (int i = 0; i < jobIds.length; i++) {
+            jobIds[i] = loaded.get(i);
+        }
+        Arrays.sort(jobIds);
+
+        synchronized (jobIdsByApplicant) {
+            // Skip caching if an eviction raced with the load; the result may be stale
+            if (evictions.get() == generation) {
+                jobIdsByApplicant.put(applicantId, jobIds);
+            }
+        }
+        return jobIds;
+    }
+
+    /**
+     * Drops the applicant's entry now and again after the current transaction
+     * commits, so a concurrent reader cannot re-cache pre-commit data.
+     */
+    public void evict(Long applicantId) {
+        evictNow(applicantId);
+        TransactionHooks.afterCommit(() -> evictNow(applicantId));
+        changeEventBus.publish(ChangeEvent.Entity.APPLIED_JOBS, applicantId, false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            evictApplicantsOfJobNow(event.getJob().getId());
+        }
+    }
+
+    private void evictApplicantsOfJobNow(long jobId) {
+        synchronized (jobIdsByApplicant) {
+            evictions.incrementAndGet();
+            jobIdsByApplicant.values().removeIf(jobIds -> Arrays.binarySearch(jobIds, jobId) >= 0);
+        }
+    }
+
+    private void evictNow(Long applicantId) {
+        synchronized (jobIdsByApplicant) {
+            evictions.incrementAndGet();
+            jobIdsByApplicant.remove(applicantId);
+        }
+    }
+
+    private void evictAllNow() {
+        synchronized (jobIdsByApplicant) {
+            evictions.incrementAndGet();
+            jobIdsByApplicant.clear();
+        }
+    }
+}
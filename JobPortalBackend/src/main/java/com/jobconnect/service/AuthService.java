@@ -12,15 +12,24 @@ import com.jobconnect.entity.ApplicantAccount;
 import com.jobconnect.entity.EmployerAccount;
 import com.jobconnect.entity.PasswordResetToken;
 import com.jobconnect.entity.User;
+import com.jobconnect.event.ApplicantProfileChangedEvent;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
 import com.jobconnect.repository.ApplicantAccountRepository;
 import com.jobconnect.repository.EmployerAccountRepository;
 import com.jobconnect.repository.PasswordResetTokenRepository;
 import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.security.RateLimiter;
+import com.jobconnect.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,6 +44,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AuthService {
 
+    // Per-account limits; per-address and per-route limits are applied by RateLimitFilter
+    private static final RateLimiter.Limit LOGIN_PER_EMAIL =
+        new RateLimiter.Limit("login-email", 10, Duration.ofMinutes(5));
+    private static final RateLimiter.Limit FORGOT_PASSWORD_PER_EMAIL =
+        new RateLimiter.Limit("forgot-password-email", 3, Duration.ofHours(1));
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
@@ -43,21 +58,31 @@ public class AuthService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final JavaMailSender mailSender;
     private final AccountService accountService;
-
-    public AuthResponse login(AuthRequest request) {
+    private final CandidateRanker candidateRanker;
+    private final RateLimiter rateLimiter;
+    private final LoginAttemptService loginAttemptService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeEventBus changeEventBus;
+    private final TokenRevocationList revocationList;
+
+    public AuthResponse login(AuthRequest request, String clientAddress) {
         if (request.getRole() == null || request.getRole().isBlank()) {
             throw new RuntimeException("Login role is required");
         }
 
         AccountRole role = parseRole(request.getRole());
+        loginAttemptService.checkAllowed(request.getEmail(), clientAddress);
+        rateLimiter.acquire(LOGIN_PER_EMAIL, String.valueOf(request.getEmail()).toLowerCase(Locale.ROOT));
 
         try {
             authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
         } catch (BadCredentialsException ex) {
+            loginAttemptService.loginFailed(request.getEmail(), clientAddress);
             throw new RuntimeException("Invalid email or password");
         }
+        loginAttemptService.loginSucceeded(request.getEmail(), clientAddress);
 
         AccountPayload payload = buildPayload(role, request.getEmail());
         String token = jwtUtil.generateToken(payload.getEmail(), role.name());
@@ -78,7 +103,9 @@ public class AuthService {
             account.setEmail(request.getEmail());
             account.setPassword(passwordEncoder.encode(request.getPassword()));
             account.setPhone(request.getPhone());
-            payload = accountService.toApplicantPayload(applicantAccountRepository.save(account));
+            account = applicantAccountRepository.save(account);
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(account.getId()));
+            payload = accountService.toApplicantPayload(account);
         } else {
             if (request.getCompanyName() == null || request.getCompanyName().isBlank()) {
                 throw new RuntimeException("Company name is required for employer registration");
@@ -117,6 +144,8 @@ public class AuthService {
             account.setExperience(updatedUser.getExperience());
             account.setEducation(updatedUser.getEducation());
             account.setResumeUrl(updatedUser.getResumeUrl());
+            candidateRanker.evictApplicant(account.getId());
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(account.getId()));
             return toUser(applicantAccountRepository.save(account));
         }
 
@@ -127,6 +156,7 @@ public class AuthService {
         account.setCompanyDescription(updatedUser.getCompanyDescription());
         account.setCompanyWebsite(updatedUser.getCompanyWebsite());
         account.setCompanyLocation(updatedUser.getCompanyLocation());
+        changeEventBus.publish(ChangeEvent.Entity.EMPLOYER, account.getId(), false);
         return toUser(employerAccountRepository.save(account));
     }
 
@@ -147,9 +177,13 @@ public class AuthService {
         }
         account.setPassword(passwordEncoder.encode(newPassword));
         employerAccountRepository.save(account);
+        // Other nodes would otherwise accept the old password from their cached account
+        changeEventBus.publish(ChangeEvent.Entity.EMPLOYER, account.getId(), false);
     }
 
     public void sendForgotPasswordEmail(ForgotPasswordRequest request) {
+        rateLimiter.acquire(FORGOT_PASSWORD_PER_EMAIL, request.getEmail().toLowerCase(Locale.ROOT));
+
         ApplicantAccount applicant = applicantAccountRepository.findByEmail(request.getEmail()).orElse(null);
         EmployerAccount employer = applicant == null
             ? employerAccountRepository.findByEmail(request.getEmail()).orElse(null)
@@ -201,10 +235,26 @@ public class AuthService {
             }
             account.setPassword(passwordEncoder.encode(request.getPassword()));
             employerAccountRepository.save(account);
+            changeEventBus.publish(ChangeEvent.Entity.EMPLOYER, account.getId(), false);
         }
 
         token.setUsed(true);
         passwordResetTokenRepository.save(token);
+        // Whoever knew the old password may still hold a token
+        String email = token.getRole().isApplicant() ? token.getApplicant().getEmail() : token.getEmployer().getEmail();
+        revocationList.revokeAllTokens(email, jwtUtil.getTokenLifetime());
+    }
+
+    public void logout(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims.getId() == null) {
+            throw new RuntimeException("This token has no id; log out all sessions to revoke it");
+        }
+        revocationList.revokeToken(claims.getId(), claims.getExpiration().getTime());
+    }
+
+    public void logoutAll(AccountPrincipal principal) {
+        revocationList.revokeAllTokens(principal.getUsername(), jwtUtil.getTokenLifetime());
     }
 
     private AccountRole parseRole(String role) {
@@ -0,0 +1,356 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.CandidateRow;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.util.TermAnalyzer;
+import com.jobconnect.util.TransactionHooks;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Scores the applicants of a job against that job.
+ *
+ * <p>A job's applicant pool is encoded once into parallel primitive arrays:
+ * bitmasks of which of the job's skills and keywords each applicant covers,
+ * parsed years of experience and an education level. Scoring is then a
+ * single branch-light pass over those columns, and the scores are kept until
+ * the job, its set of applications or one of the applicants' profiles
+ * changes, so repeat views only pay for the top-K selection.
+ */
+@Component
+public class CandidateRanker {
+
+    static final int MAX_VOCABULARY = Long.SIZE;
+
+    private static final double SKILL_WEIGHT = 50;
+    private static final double EXPERIENCE_WEIGHT = 20;
+    private static final double EDUCATION_WEIGHT = 10;
+    private static final double KEYWORD_WEIGHT = 20;
+    private static final int UNKNOWN_EXPERIENCE = -1;
+    private static final Pattern YEARS = Pattern.compile("\\d{1,2}");
+
+    private final JobApplicationRepository applicationRepository;
+    private final ChangeEventBus changeEventBus;
+    private final Map<Long, Pool> poolsByJob;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CandidateRanker(
+            JobApplicationRepository applicationRepository,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.candidate-ranking.max-jobs:200}") int maxJobs) {
+        this.applicationRepository = applicationRepository;
+        this.changeEventBus = changeEventBus;
+        this.poolsByJob = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Pool> eldest) {
+                return size() > maxJobs;
+            }
+        };
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, event -> evictJobNow(event.getEntityId()), this::evictAllNow);
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB_APPLICATIONS, event -> evictJobNow(event.getEntityId()),
+            this::evictAllNow);
+        changeEventBus.subscribe(ChangeEvent.Entity.APPLICANT, event -> evictApplicantNow(event.getEntityId()),
+            this::evictAllNow);
+    }
+
+    public record Candidate(long applicationId, double score, int matchedSkills, int requiredSkills,
+                            int matchedKeywords, int experienceYears) {
+    }
+
+    /** The {@code limit} best-scoring applications for {@code job}, best first; ties go to earlier applications. */
+    public List<Candidate> rank(Job job, int limit) {
+        Pool pool = getPool(job);
+        int count = pool.applicationIds.length;
+        if (count == 0) {
+            return List.of();
+        }
+
+        // Partial sort: a min-heap of the best `limit` indexes, so the full pool is never sorted
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, count) + 1,
+            (a, b) -> pool.compare(b, a));
+        for (int i = 0; i < count; i++) {
+            if (top.size() < limit) {
+                top.add(i);
+            } else if (pool.compare(i, top.peek()) < 0) {
+                top.poll();
+                top.add(i);
+            }
+        }
+
+        Candidate[] ranked = new Candidate[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = pool.candidate(top.poll());
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * Drops the job's cached pool now and again after the current transaction
+     * commits, so a concurrent reader cannot re-cache pre-commit data. Other
+     * nodes drop theirs once the change reaches them.
+     */
+    public void evictJob(Long jobId) {
+        evictJobNow(jobId);
+        TransactionHooks.afterCommit(() -> evictJobNow(jobId));
+        changeEventBus.publish(ChangeEvent.Entity.JOB_APPLICATIONS, jobId, false);
+    }
+
+    /** Drops every cached pool the applicant appears in, after their profile changes. */
+    public void evictApplicant(Long applicantId) {
+        evictApplicantNow(applicantId);
+        TransactionHooks.afterCommit(() -> evictApplicantNow(applicantId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evictJobNow(event.getJobId());
+    }
+
+    private Pool getPool(Job job) {
+        synchronized (poolsByJob) {
+            Pool cached = poolsByJob.get(job.getId());
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long generation = evictions.get();
+        Pool pool = Pool.build(job, applicationRepository.findCandidateRows(job.getId()));
+
+        synchronized (poolsByJob) {
+            // Skip caching if an eviction raced with the load; the result may be stale
+            if (evictions.get() == generation) {
+                poolsByJob.put(job.getId(), pool);
+            }
+        }
+        return pool;
+    }
+
+    private void evictJobNow(Long jobId) {
+        synchronized (poolsByJob) {
+            evictions.incrementAndGet();
+            poolsByJob.remove(jobId);
+        }
+    }
+
+    private void evictAllNow() {
+        synchronized (poolsByJob) {
+            evictions.incrementAndGet();
+            poolsByJob.clear();
+        }
+    }
+
+    private void evictApplicantNow(Long applicantId) {
+        synchronized (poolsByJob) {
+            evictions.incrementAndGet();
+            Iterator<Pool> pools = poolsByJob.values().iterator();
+            while (pools.hasNext()) {
+                if (pools.next().contains(applicantId)) {
+                    pools.remove();
+                }
+            }
+        }
+    }
+
+    static int educationLevel(String education) {
+        if (education == null || education.isBlank()) {
+            return 0;
+        }
+        String text = education.toLowerCase(Locale.ROOT);
+        if (text.contains("phd") || text.contains("ph.d") || text.contains("doctor")) {
+            return 4;
+        }
+        if (text.contains("master") || text.contains("mba") || text.contains("m.s") || text.contains("msc")) {
+            return 3;
+        }
+        if (text.contains("bachelor") || text.contains("b.s") || text.contains("bsc") || text.contains("degree")
+                || text.contains("b.tech") || text.contains("b.e")) {
+            return 2;
+        }
+        if (text.contains("diploma") || text.contains("associate") || text.contains("high school")) {
+            return 1;
+        }
+        return 0;
+    }
+
+    static int experienceYears(String experience) {
+        if (experience == null) {
+            return UNKNOWN_EXPERIENCE;
+        }
+        Matcher matcher = YEARS.matcher(experience);
+        return matcher.find() ? Integer.parseInt(matcher.group()) : UNKNOWN_EXPERIENCE;
+    }
+
+    /** One job's applicant pool in columnar form, with precomputed scores. */
+    private static final class Pool {
+
+        final long[] applicationIds;
+        final long[] applicantIds;
+        final long[] skillMasks;
+        final long[] keywordMasks;
+        final int[] experienceYears;
+        final byte[] educationLevels;
+        final double[] scores;
+        final int requiredSkills;
+
+        private Pool(int size, int requiredSkills) {
+            this.applicationIds = new long[size];
+            this.applicantIds = new long[size];
+            this.skillMasks = new long[size];
+            this.keywordMasks = new long[size];
+            this.experienceYears = new int[size];
+            this.educationLevels = new byte[size];
+            this.scores = new double[size];
+            this.requiredSkills = requiredSkills;
+        }
+
+        static Pool build(Job job, List<CandidateRow> rows) {
+            List<String> skills = jobSkills(job);
+            List<String> keywords = jobKeywords(job, skills);
+            Pool pool = new Pool(rows.size(), skills.size());
+
+            for (int i = 0; i < rows.size(); i++) {
+                CandidateRow row = rows.get(i);
+                Set<String> terms = new HashSet<>();
+                TermAnalyzer.skills(row.getSkills(), terms::add, terms::add);
+                TermAnalyzer.words(row.getBio(), terms::add);
+                TermAnalyzer.words(row.getCoverLetter(), terms::add);
+                TermAnalyzer.words(row.getExperience(), terms::add);
+
+                pool.applicationIds[i] = row.getApplicationId();
+                pool.applicantIds[i] = row.getApplicantId();
+                pool.skillMasks[i] = mask(skills, terms);
+                pool.keywordMasks[i] = mask(keywords, terms);
+                pool.experienceYears[i] = experienceYears(row.getExperience());
+                pool.educationLevels[i] = (byte) educationLevel(row.getEducation());
+            }
+
+            pool.score(job, keywords.size());
+            return pool;
+        }
+
+        private void score(Job job, int keywordCount) {
+            double skillPoints = requiredSkills == 0 ? 0 : SKILL_WEIGHT / requiredSkills;
+            double keywordPoints = keywordCount == 0 ? 0 : KEYWORD_WEIGHT / keywordCount;
+            int min = job.getMinExperience() != null ? job.getMinExperience() : 0;
+            int max = job.getMaxExperience() != null ? job.getMaxExperience() : Integer.MAX_VALUE;
+            int requiredEducation = educationLevel(job.getEducation());
+
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = Long.bitCount(skillMasks[i]) * skillPoints
+                    + Long.bitCount(keywordMasks[i]) * keywordPoints
+                    + EXPERIENCE_WEIGHT * experienceFit(experienceYears[i], min, max)
+                    + EDUCATION_WEIGHT * educationFit(educationLevels[i], requiredEducation);
+            }
+        }
+
+        private static double experienceFit(int years, int min, int max) {
+            if (years == UNKNOWN_EXPERIENCE) {
+                return 0.5;
+            }
+            if (years < min) {
+                return Math.max(0, 1 - (double) (min - years) / Math.max(min, 1));
+            }
+            if (years > max) {
+                // Over-qualified candidates lose a little per extra year, never below half
+                return Math.max(0.5, 1 - 0.1 * (years - max));
+            }
+            return 1;
+        }
+
+        private static double educationFit(int level, int required) {
+            if (required == 0 || level >= required) {
+                return 1;
+            }
+            return (double) level / required;
+        }
+
+        /** Orders by score descending, then by application id ascending. */
+        int compare(int a, int b) {
+            int byScore = Double.compare(scores[b], scores[a]);
+            return byScore != 0 ? byScore : Long.compare(applicationIds[a], applicationIds[b]);
+        }
+
+        boolean contains(long applicantId) {
+            for (long id : applicantIds) {
+                if (id == applicantId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Candidate candidate(int i) {
+            return new Candidate(
+                applicationIds[i],
+                Math.round(scores[i] * 10) / 10.0,
+                Long.bitCount(skillMasks[i]),
+                requiredSkills,
+                Long.bitCount(keywordMasks[i]),
+                experienceYears[i]);
+        }
+
+        /** The job's skill phrases ("skill:spring boot"), at most one mask's worth. */
+        private static List<String> jobSkills(Job job) {
+            Set<String> skills = new LinkedHashSet<>();
+            TermAnalyzer.skills(job.getSkills(), skills::add, term -> { });
+            return new ArrayList<>(skills).subList(0, Math.min(skills.size(), MAX_VOCABULARY));
+        }
+
+        /** The most frequent words of the posting that are not already skills. */
+        private static List<String> jobKeywords(Job job, List<String> skills) {
+            Map<String, Integer> counts = new HashMap<>();
+            TermAnalyzer.words(job.getTitle(), term -> counts.merge(term, 3, Integer::sum));
+            TermAnalyzer.words(job.getRequirements(), term -> counts.merge(term, 2, Integer::sum));
+            TermAnalyzer.words(job.getResponsibilities(), term -> counts.merge(term, 1, Integer::sum));
+            TermAnalyzer.words(job.getDescription(), term -> counts.merge(term, 1, Integer::sum));
+            for (String skill : skills) {
+                counts.remove(skill.substring("skill:".length()));
+            }
+            return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_VOCABULARY)
+                .map(Map.Entry::getKey)
+                .toList();
+        }
+
+        /**
+         * Bit i is set when the applicant has vocabulary entry i. A skill
+         * phrase also matches its bare word for single-word skills, so "java"
+         * in a bio counts for a "Java" skill.
+         */
+        private static long mask(List<String> vocabulary, Set<String> terms) {
+            long mask = 0;
+            for (int bit = 0; bit < vocabulary.size(); bit++) {
+                String term = vocabulary.get(bit);
+                boolean match = terms.contains(term);
+                if (!match && term.startsWith("skill:") && term.indexOf(' ') < 0) {
+                    match = terms.contains(term.substring("skill:".length()));
+                }
+                if (match) {
+                    mask |= 1L << bit;
+                }
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobconnect.service;
+
+import com.jobconnect.event.ApplicantProfileChangedEvent;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Forwards this node's job and applicant-profile events to the
+ * {@link ChangeEventBus}. The listeners run synchronously, inside the
+ * publishing transaction, so the change is only sent if it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventRelay {
+
+    private final ChangeEventBus changeEventBus;
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        changeEventBus.publish(ChangeEvent.Entity.JOB, event.getJobId(), !event.isActive());
+    }
+
+    @EventListener
+    public void onProfileChanged(ApplicantProfileChangedEvent event) {
+        changeEventBus.publish(ChangeEvent.Entity.APPLICANT, event.getApplicantId(), false);
+    }
+}
@@ -0,0 +1,170 @@
+package com.jobconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remembers the response of requests sent with an Idempotency-Key header so
+ * a retried request gets the original result instead of running again.
+ * Each key is stored with a hash of the method, path and body it was first
+ * used with; reusing it for a different request is rejected with 422.
+ * A retry that arrives while the first request is still running waits for it
+ * for a bounded time, then gets 409 with Retry-After.
+ * Keys are held in a bounded in-memory store; the oldest keys are dropped
+ * once it is full and every key expires after the configured TTL.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+    private final int maxKeys;
+    private final long ttlMillis;
+    private final long waitMillis;
+    private final Map<String, Entry> entries;
+
+    public IdempotencyService(
+            ObjectMapper objectMapper,
+            @Value("${jobconnect.idempotency.max-keys:10000}") int maxKeys,
+            @Value("${jobconnect.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${jobconnect.idempotency.wait:PT5S}") Duration wait) {
+        this.objectMapper = objectMapper;
+        this.maxKeys = maxKeys;
+        this.ttlMillis = ttl.toMillis();
+        this.waitMillis = wait.toMillis();
+        this.entries = new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > IdempotencyService.this.maxKeys;
+            }
+        };
+    }
+
+    /**
+     * Runs {@code action} once per (scope, key). Concurrent or later calls with
+     * the same key and the same request wait for and return the first call's
+     * response, or get 409 if it is still running after the configured wait;
+     * a different {@code request} or {@code body} gets 422. Only
+     * successful responses are kept, so a failed attempt can be retried.
+     */
+    public ResponseEntity<?> execute(String scope, String key, HttpServletRequest request, Object body,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key cannot exceed " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storeKey = scope + ":" + key;
+        byte[] fingerprint = fingerprint(request, body);
+        long now = System.currentTimeMillis();
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(storeKey);
+            if (entry == null || entry.expiresAt < now) {
+                entry = new Entry(now + ttlMillis, fingerprint);
+                entries.put(storeKey, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            if (!MessageDigest.isEqual(entry.fingerprint, fingerprint)) {
+                return ResponseEntity.unprocessableEntity()
+                    .body(Map.of("error", "Idempotency-Key was already used for a different request"));
+            }
+            return replay(entry);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            forget(storeKey, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            forget(storeKey, entry);
+        }
+        entry.response.complete(response);
+        return response;
+    }
+
+    private ResponseEntity<?> replay(Entry entry) {
+        ResponseEntity<?> original;
+        try {
+            original = entry.response.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Holding a request thread for as long as the first one runs would let slow requests exhaust the pool
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "A request with this Idempotency-Key is still in progress"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the original request");
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+        return ResponseEntity.status(original.getStatusCode())
+            .headers(original.getHeaders())
+            .header(REPLAYED_HEADER, "true")
+            .body(original.getBody());
+    }
+
+    // The body is hashed as Jackson writes the bound request object, so formatting differences do not count
+    private byte[] fingerprint(HttpServletRequest request, Object body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(body));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint the request", e);
+        }
+    }
+
+    private void forget(String storeKey, Entry entry) {
+        synchronized (entries) {
+            entries.remove(storeKey, entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final long expiresAt;
+        private final byte[] fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        Entry(long expiresAt, byte[] fingerprint) {
+            this.expiresAt = expiresAt;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobconnect.service;
+
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.util.TransactionHooks;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ChangeEventBus} inside one JVM, for tests and single-node runs.
+ * Buses created with {@link #joining(InMemoryChangeEventBus)} share a hub
+ * and stand in for separate nodes: a change is delivered to the other buses'
+ * subscribers on the publishing thread once its transaction commits, so
+ * there is never any lag. A bus on its own delivers nothing.
+ */
+@Component
+@ConditionalOnProperty(name = "jobconnect.change-bus.type", havingValue = "memory")
+public class InMemoryChangeEventBus implements ChangeEventBus {
+
+    private final Hub hub;
+    private final Map<ChangeEvent.Entity, List<Subscription>> subscriptions = new EnumMap<>(ChangeEvent.Entity.class);
+
+    public InMemoryChangeEventBus() {
+        this(new Hub());
+    }
+
+    private InMemoryChangeEventBus(Hub hub) {
+        this.hub = hub;
+        for (ChangeEvent.Entity entity : ChangeEvent.Entity.values()) {
+            subscriptions.put(entity, new CopyOnWriteArrayList<>());
+        }
+        hub.buses.add(this);
+    }
+
+    /** A bus for another simulated node, receiving this bus's changes and sending it its own. */
+    public static InMemoryChangeEventBus joining(InMemoryChangeEventBus other) {
+        return new InMemoryChangeEventBus(other.hub);
+    }
+
+    private static final class Hub {
+
+        final List<InMemoryChangeEventBus> buses = new CopyOnWriteArrayList<>();
+        final AtomicLong sequence = new AtomicLong();
+    }
+
+    private record Subscription(Consumer<ChangeEvent> onChange, Runnable onResync) {
+    }
+
+    @Override
+    public void publish(ChangeEvent.Entity entity, long entityId, boolean removed) {
+        TransactionHooks.afterCommit(() -> {
+            ChangeEvent event = new ChangeEvent(hub.sequence.incrementAndGet(), entity, entityId, removed);
+            for (InMemoryChangeEventBus bus : hub.buses) {
+                if (bus != this) {
+                    bus.subscriptions.get(entity).forEach(subscription -> subscription.onChange().accept(event));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(ChangeEvent.Entity entity, Consumer<ChangeEvent> onChange, Runnable onResync) {
+        subscriptions.get(entity).add(new Subscription(onChange, onResync));
+    }
+
+    @Override
+    public long lagMillis() {
+        return 0;
+    }
+
+    /** Has every subscriber resync, as a node that fell too far behind would. */
+    public void resync() {
+        subscriptions.values().forEach(entitySubscriptions ->
+            entitySubscriptions.forEach(subscription -> subscription.onResync().run()));
+    }
+}
@@ -0,0 +1,302 @@
+package com.jobconnect.service;
+
+import com.jobconnect.config.ReplicaRoutingDataSource;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link ChangeEventBus} over the change_log table, for running several
+ * nodes against one database.
+ *
+ * <p>Changes made in a transaction are written to change_log just before it
+ * commits, in the same transaction, so a change is logged exactly when the
+ * write it describes commits. Every node polls the log by its
+ * auto-increment sequence and delivers other nodes' rows to subscribers.
+ * Sequences are allocated at insert time, so a row can commit after a
+ * higher one; skipped sequences are re-read on later polls until
+ * {@code gap-timeout}, which also covers sequences lost to rollbacks.
+ *
+ * <p>Lag is bounded: a node that briefly falls behind replays the log, but
+ * one that has not caught up for {@code max-lag}, because the database was
+ * unreachable or the node stalled, skips to the head of the log and has
+ * every subscriber resync instead of replaying a backlog that may already
+ * be pruned. Rows are pruned after {@code retention}.
+ *
+ * <p>Subscribers reload what changed, so deliveries run with reads sent to
+ * the primary. Caches that only evict reload later, on whichever replica a
+ * request reads from, so a change is delivered only once every replica in
+ * rotation has its change_log row, and with it the write it describes.
+ */
+@Component
+@ConditionalOnProperty(name = "jobconnect.change-bus.type", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcChangeEventBus implements ChangeEventBus {
+
+    private static final int MAX_TRACKED_GAPS = 10_000;
+    private static final int PRUNE_BATCH_SIZE = 10_000;
+    private static final String SELECT_ROWS =
+        "SELECT seq, origin, entity, entity_id, removed, " +
+        "TIMESTAMPDIFF(MICROSECOND, created_at, NOW(3)) DIV 1000 AS age_ms FROM change_log ";
+
+    private final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final JdbcTemplate jdbcTemplate;
+    // Null when every read goes to the primary
+    private final ReplicaRoutingDataSource replicaRouting;
+    private final Map<DataSource, JdbcTemplate> replicaTemplates = new HashMap<>();
+    private final int batchSize;
+    private final long maxLagMillis;
+    private final long gapTimeoutMillis;
+    private final Duration retention;
+    private final Map<ChangeEvent.Entity, List<Subscription>> subscriptions = new EnumMap<>(ChangeEvent.Entity.class);
+    private final Timer deliveryDelay;
+    private final Counter resyncs;
+    private final MeterRegistry meterRegistry;
+    // Poller state, guarded by the poll() monitor
+    private long cursor;
+    private final Map<Long, Long> gaps = new HashMap<>();
+    private volatile long caughtUpAt = System.currentTimeMillis();
+
+    public JdbcChangeEventBus(
+            JdbcTemplate jdbcTemplate,
+            Optional<ReplicaRoutingDataSource> replicaRouting,
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.change-bus.batch-size:500}") int batchSize,
+            @Value("${jobconnect.change-bus.max-lag:PT5M}") Duration maxLag,
+            @Value("${jobconnect.change-bus.gap-timeout:PT1M}") Duration gapTimeout,
+            @Value("${jobconnect.change-bus.retention:PT1H}") Duration retention) {
+        if (maxLag.compareTo(retention) >= 0) {
+            throw new IllegalArgumentException("jobconnect.change-bus.max-lag must be shorter than the retention");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaRouting = replicaRouting.orElse(null);
+        this.batchSize = batchSize;
+        this.maxLagMillis = maxLag.toMillis();
+        this.gapTimeoutMillis = gapTimeout.toMillis();
+        this.retention = retention;
+        for (ChangeEvent.Entity entity : ChangeEvent.Entity.values()) {
+            subscriptions.put(entity, new CopyOnWriteArrayList<>());
+        }
+        this.deliveryDelay = Timer.builder("jobconnect.change-bus.delivery-delay").register(meterRegistry);
+        this.resyncs = Counter.builder("jobconnect.change-bus.resyncs").register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("jobconnect.change-bus.lag", this, ChangeEventBus::lagMillis)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        // Read before any cache loads, so nothing committed after the caches are built is skipped
+        this.cursor = headSequence();
+    }
+
+    private record Subscription(Consumer<ChangeEvent> onChange, Runnable onResync) {
+    }
+
+    private record Row(ChangeEvent event, String origin, long ageMillis) {
+    }
+
+    /** Changes buffered until the surrounding transaction is about to commit. */
+    private final class Pending implements TransactionSynchronization {
+
+        final Map<List<Object>, Object[]> rows = new LinkedHashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            insert(new ArrayList<>(rows.values()));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(JdbcChangeEventBus.this);
+        }
+    }
+
+    @Override
+    public void publish(ChangeEvent.Entity entity, long entityId, boolean removed) {
+        Object[] row = {nodeId, entity.code(), entityId, removed};
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            insert(List.<Object[]>of(row));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        // A transaction that touches an entity twice logs it once, with its final state
+        pending.rows.remove(List.of(entity, entityId));
+        pending.rows.put(List.of(entity, entityId), row);
+    }
+
+    @Override
+    public void subscribe(ChangeEvent.Entity entity, Consumer<ChangeEvent> onChange, Runnable onResync) {
+        subscriptions.get(entity).add(new Subscription(onChange, onResync));
+    }
+
+    @Override
+    public long lagMillis() {
+        return System.currentTimeMillis() - caughtUpAt;
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.change-bus.poll-interval:PT1S}")
+    public synchronized void poll() {
+        ReplicaRoutingDataSource.onPrimary(this::pollOnPrimary);
+    }
+
+    private void pollOnPrimary() {
+        long now = System.currentTimeMillis();
+        try {
+            if (now - caughtUpAt > maxLagMillis || gaps.size() > MAX_TRACKED_GAPS) {
+                resync();
+            }
+            if (!gaps.isEmpty()) {
+                recheckGaps();
+                gaps.values().removeIf(noticedAt -> now - noticedAt > gapTimeoutMillis);
+            }
+            List<Row> rows;
+            boolean caughtUp = true;
+            do {
+                rows = jdbcTemplate.query(SELECT_ROWS + "WHERE seq > ? ORDER BY seq LIMIT ?",
+                    ROW_MAPPER, cursor, batchSize);
+                Set<Long> replicated = replicatedSequences(rows);
+                for (Row row : rows) {
+                    long sequence = row.event().getSequence();
+                    if (!replicated.contains(sequence)) {
+                        // Read again on the next poll; the lag shows in the meantime
+                        caughtUp = false;
+                        break;
+                    }
+                    for (long skipped = cursor + 1; skipped < sequence && gaps.size() <= MAX_TRACKED_GAPS; skipped++) {
+                        gaps.put(skipped, now);
+                    }
+                    cursor = sequence;
+                    deliver(row);
+                }
+            } while (caughtUp && rows.size() == batchSize);
+            if (caughtUp) {
+                caughtUpAt = now;
+            }
+        } catch (RuntimeException e) {
+            // Usually the database is unreachable: lag grows until a poll succeeds, and past max-lag that poll resyncs.
+            // Counted by exception type, so a failure that is not an outage shows up too
+            meterRegistry.counter("jobconnect.change-bus.poll-failures", "exception", e.getClass().getSimpleName())
+                .increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.change-bus.prune-interval:PT10M}")
+    public void prune() {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                "DELETE FROM change_log WHERE created_at < NOW(3) - INTERVAL ? SECOND LIMIT ?",
+                retention.toSeconds(), PRUNE_BATCH_SIZE);
+        } while (deleted == PRUNE_BATCH_SIZE);
+    }
+
+    private void resync() {
+        cursor = headSequence();
+        gaps.clear();
+        resyncs.increment();
+        subscriptions.values().forEach(entitySubscriptions -> entitySubscriptions.forEach(subscription -> {
+            try {
+                subscription.onResync().run();
+            } catch (RuntimeException e) {
+                // One failing cache must not keep the others stale
+            }
+        }));
+    }
+
+    private void recheckGaps() {
+        List<Long> missing = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<Row> found = jdbcTemplate.query(SELECT_ROWS + "WHERE seq IN (" + placeholders + ")",
+                ROW_MAPPER, chunk.toArray());
+            Set<Long> replicated = replicatedSequences(found);
+            for (Row row : found) {
+                if (replicated.remove(row.event().getSequence())) {
+                    gaps.remove(row.event().getSequence());
+                    deliver(row);
+                }
+            }
+        }
+    }
+
+    /** The sequences among {@code rows} that every replica in rotation has applied. */
+    private Set<Long> replicatedSequences(List<Row> rows) {
+        List<Long> sequences = rows.stream().map(row -> row.event().getSequence()).toList();
+        Set<Long> replicated = new HashSet<>(sequences);
+        if (replicaRouting == null || sequences.isEmpty()) {
+            return replicated;
+        }
+        String placeholders = String.join(",", Collections.nCopies(sequences.size(), "?"));
+        for (DataSource replica : replicaRouting.getReplicasInRotation()) {
+            JdbcTemplate replicaTemplate = replicaTemplates.computeIfAbsent(replica, JdbcTemplate::new);
+            replicated.retainAll(replicaTemplate.queryForList(
+                "SELECT seq FROM change_log WHERE seq IN (" + placeholders + ")", Long.class, sequences.toArray()));
+        }
+        return replicated;
+    }
+
+    private void deliver(Row row) {
+        ChangeEvent event = row.event();
+        if (nodeId.equals(row.origin()) || event.getEntity() == null) {
+            return;
+        }
+        deliveryDelay.record(Math.max(row.ageMillis(), 0), TimeUnit.MILLISECONDS);
+        for (Subscription subscription : subscriptions.get(event.getEntity())) {
+            try {
+                subscription.onChange().accept(event);
+            } catch (RuntimeException e) {
+                // A subscriber that cannot apply the change drops what it holds instead
+                try {
+                    subscription.onResync().run();
+                } catch (RuntimeException ignored) {
+                    // Left for the subscriber's own expiry or rebuild
+                }
+            }
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO change_log (origin, entity, entity_id, removed) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private long headSequence() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM change_log", Long.class);
+    }
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+        new ChangeEvent(rs.getLong("seq"), ChangeEvent.Entity.fromCode(rs.getByte("entity")),
+            rs.getLong("entity_id"), rs.getBoolean("removed")),
+        rs.getString("origin"),
+        rs.getLong("age_ms"));
+}
@@ -0,0 +1,211 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.JobDeadlineRow;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.repository.SavedJobRepository;
+import com.jobconnect.util.HashedTimingWheel;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Closes jobs when their application deadline passes and, optionally,
+ * reminds applicants who saved a job shortly before it closes.
+ *
+ * <p>Deadlines are loaded into a {@link HashedTimingWheel} once at startup
+ * and kept current from {@link JobChangedEvent}s, so nothing rescans the
+ * jobs table. Each tick closes the due jobs with batched
+ * {@code UPDATE ... WHERE id IN (...)} statements and publishes
+ * {@code CLOSED} events so caches and indexes drop them.
+ *
+ * <p>Every node keeps its own wheel and hears about other nodes' deadline
+ * changes through the {@link ChangeEventBus}. Closing is idempotent, but a
+ * reminder is claimed in the database before it is sent, so only one node
+ * sends it, and only for the job's current deadline.
+ */
+@Service
+public class JobExpiryService {
+
+    private static final int WHEEL_SIZE = 4096;
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("MMM d, h:mm a");
+    private static final String CLAIM_REMINDER =
+        "UPDATE jobs SET reminder_sent_for = application_deadline " +
+        "WHERE id = ? AND status = 'ACTIVE' AND application_deadline = ? " +
+        "AND (reminder_sent_for IS NULL OR reminder_sent_for <> application_deadline)";
+
+    private final JobRepository jobRepository;
+    private final SavedJobRepository savedJobRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final HashedTimingWheel<Timer> wheel;
+    private final int batchSize;
+    private final boolean remindersEnabled;
+    private final Duration reminderLead;
+
+    public JobExpiryService(
+            JobRepository jobRepository,
+            SavedJobRepository savedJobRepository,
+            NotificationService notificationService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.jobs.expiry.tick:PT1S}") Duration tick,
+            @Value("${jobconnect.jobs.expiry.batch-size:500}") int batchSize,
+            @Value("${jobconnect.jobs.deadline-reminders.enabled:true}") boolean remindersEnabled,
+            @Value("${jobconnect.jobs.deadline-reminders.lead:PT48H}") Duration reminderLead) {
+        this.jobRepository = jobRepository;
+        this.savedJobRepository = savedJobRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.wheel = new HashedTimingWheel<>(tick.toMillis(), WHEEL_SIZE, System.currentTimeMillis());
+        this.batchSize = batchSize;
+        this.remindersEnabled = remindersEnabled;
+        this.reminderLead = reminderLead;
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, this::onRemoteJobChanged, this::loadDeadlines);
+    }
+
+    private enum Kind {
+        CLOSE,
+        REMIND
+    }
+
+    private record Timer(long jobId, Kind kind) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeadlines() {
+        for (JobDeadlineRow row : jobRepository.findActiveDeadlines()) {
+            schedule(row.getId(), row.getApplicationDeadline());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.getJob();
+        if (event.isActive() && job.getApplicationDeadline() != null) {
+            schedule(job.getId(), job.getApplicationDeadline());
+        } else {
+            wheel.cancel(new Timer(job.getId(), Kind.CLOSE));
+            wheel.cancel(new Timer(job.getId(), Kind.REMIND));
+        }
+    }
+
+    private void onRemoteJobChanged(ChangeEvent event) {
+        long jobId = event.getEntityId();
+        jobRepository.findActiveDeadline(jobId).ifPresentOrElse(
+            row -> schedule(jobId, row.getApplicationDeadline()),
+            () -> {
+                wheel.cancel(new Timer(jobId, Kind.CLOSE));
+                wheel.cancel(new Timer(jobId, Kind.REMIND));
+            });
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.jobs.expiry.tick:PT1S}")
+    public void tick() {
+        List<Long> expired = new ArrayList<>();
+        List<Long> reminders = new ArrayList<>();
+        for (Timer timer : wheel.advance(System.currentTimeMillis())) {
+            (timer.kind() == Kind.CLOSE ? expired : reminders).add(timer.jobId());
+        }
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            closeExpired(expired.subList(from, Math.min(from + batchSize, expired.size())));
+        }
+        for (Long jobId : reminders) {
+            sendReminders(jobId);
+        }
+    }
+
+    public int pendingTimers() {
+        return wheel.size();
+    }
+
+    private void schedule(long jobId, LocalDateTime deadline) {
+        long deadlineMillis = toMillis(deadline);
+        wheel.schedule(new Timer(jobId, Kind.CLOSE), deadlineMillis);
+
+        Timer reminder = new Timer(jobId, Kind.REMIND);
+        long remindAt = deadlineMillis - reminderLead.toMillis();
+        // A reminder whose time has already passed is dropped rather than sent late
+        if (remindersEnabled && remindAt > System.currentTimeMillis()) {
+            wheel.schedule(reminder, remindAt);
+        } else {
+            wheel.cancel(reminder);
+        }
+    }
+
+    private void closeExpired(List<Long> jobIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            List<Job> due = new ArrayList<>();
+            for (Job job : jobRepository.findAllById(jobIds)) {
+                if ("ACTIVE".equals(job.getStatus()) && job.getApplicationDeadline() != null
+                        && !job.getApplicationDeadline().isAfter(now)) {
+                    due.add(job);
+                }
+            }
+            if (due.isEmpty()) {
+                return;
+            }
+
+            jobRepository.closeExpired(due.stream().map(Job::getId).toList(), now);
+            for (Job job : due) {
+                job.setStatus("CLOSED");
+                eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CLOSED, job));
+            }
+        });
+    }
+
+    private void sendReminders(Long jobId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Job job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || !"ACTIVE".equals(job.getStatus()) || job.getApplicationDeadline() == null) {
+                return;
+            }
+            long deadlineMillis = toMillis(job.getApplicationDeadline());
+            if (deadlineMillis - reminderLead.toMillis() > System.currentTimeMillis()) {
+                // Scheduled for an earlier deadline whose change this node missed; remind for the current one instead
+                schedule(jobId, job.getApplicationDeadline());
+                return;
+            }
+            // Another node already sent it, or the deadline moved since the job was read
+            if (jdbcTemplate.update(CLAIM_REMINDER, jobId, job.getApplicationDeadline()) == 0) {
+                return;
+            }
+            String title = String.format("%s closes soon", job.getTitle());
+            String message = String.format("Applications for %s at %s close on %s. You saved this job but haven't applied yet.",
+                job.getTitle(), job.getCompany(), job.getApplicationDeadline().format(DEADLINE_FORMAT));
+            for (Long applicantId : savedJobRepository.findApplicantIdsWithoutApplication(jobId)) {
+                notificationService.createNotification(
+                    applicantId, job.getEmployer().getId(), title, message, "DEADLINE_REMINDER");
+            }
+        });
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,307 @@
+package com.jobconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jobconnect.dto.JobCreateRequest;
+import com.jobconnect.dto.JobImportEvent;
+import com.jobconnect.entity.EmployerAccount;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.util.CsvRecordReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports job postings from an NDJSON or CSV stream. Rows are parsed and
+ * validated one at a time and written in chunks, each chunk in its own
+ * transaction, so memory use does not grow with the size of the upload.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobImportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final AccountService accountService;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jobconnect.jobs.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${jobconnect.jobs.import.max-line-chars:65536}")
+    private int maxLineChars;
+
+    public JobImportEvent importJobs(InputStream input, Format format, Long employerId,
+                                     Consumer<JobImportEvent> listener) throws IOException {
+        EmployerAccount employer = accountService.requireEmployer(employerId);
+        ImportRun run = new ImportRun(employer, listener);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.flush();
+
+        JobImportEvent summary = JobImportEvent.builder()
+            .type("SUMMARY")
+            .processed(run.processed)
+            .imported(run.imported)
+            .failed(run.failed)
+            .build();
+        listener.accept(summary);
+        return summary;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        ObjectReader rowReader = objectMapper.readerFor(JobCreateRequest.class);
+        StringBuilder buffer = new StringBuilder();
+        long line = 0;
+        int length;
+        while ((length = readLine(reader, buffer)) >= 0) {
+            line++;
+            if (length > maxLineChars) {
+                run.reject(line, "Line is longer than " + maxLineChars + " characters");
+                continue;
+            }
+            String text = buffer.toString();
+            if (text.isBlank()) {
+                continue;
+            }
+            JobCreateRequest request;
+            try {
+                request = rowReader.readValue(text);
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            try {
+                run.accept(line, request);
+            } catch (RuntimeException e) {
+                run.reject(line, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the next line into {@code line}, keeping at most {@code maxLineChars}
+     * characters; the rest of a longer line is skipped. Returns the line's length,
+     * capped at {@code maxLineChars + 1}, or -1 at the end of the input.
+     */
+    private int readLine(BufferedReader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return -1;
+        }
+        int length = 0;
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (length < maxLineChars) {
+                line.append((char) c);
+            }
+            if (length <= maxLineChars) {
+                length++;
+            }
+            c = reader.read();
+        }
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+        return length;
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, maxLineChars);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = header.stream()
+            .map(name -> name.trim().replace("_", "").toLowerCase(Locale.ROOT))
+            .collect(Collectors.toList());
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            long line = csv.getRecordLine();
+            try {
+                run.accept(line, toRequest(columns, record));
+            } catch (RuntimeException e) {
+                run.reject(line, e.getMessage());
+            }
+        }
+    }
+
+    private JobCreateRequest toRequest(List<String> columns, List<String> record) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < columns.size() && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (!value.isEmpty()) {
+                values.put(columns.get(i), value);
+            }
+        }
+
+        JobCreateRequest request = new JobCreateRequest();
+        request.setTitle(values.get("title"));
+        request.setCompany(values.get("company"));
+        request.setLocation(values.get("location"));
+        request.setJobType(values.get("jobtype"));
+        request.setWorkMode(values.get("workmode"));
+        request.setExperienceLevel(values.get("experiencelevel"));
+        request.setDescription(values.get("description"));
+        request.setRequirements(values.get("requirements"));
+        request.setResponsibilities(values.get("responsibilities"));
+        request.setSalary(values.get("salary"));
+        request.setSkills(values.get("skills"));
+        request.setMinExperience(parseInteger(values.get("minexperience"), "minExperience"));
+        request.setMaxExperience(parseInteger(values.get("maxexperience"), "maxExperience"));
+        request.setEducation(values.get("education"));
+        request.setIndustry(values.get("industry"));
+        request.setBenefits(values.get("benefits"));
+        request.setApplicationDeadline(parseDeadline(values.get("applicationdeadline")));
+        return request;
+    }
+
+    private Integer parseInteger(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid number for " + column + ": " + value);
+        }
+    }
+
+    private LocalDateTime parseDeadline(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                ? LocalDate.parse(value).atTime(23, 59, 59)
+                : LocalDateTime.parse(value);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid applicationDeadline: " + value);
+        }
+    }
+
+    private class ImportRun {
+
+        private final EmployerAccount employer;
+        private final Consumer<JobImportEvent> listener;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<Job> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        ImportRun(EmployerAccount employer, Consumer<JobImportEvent> listener) {
+            this.employer = employer;
+            this.listener = listener;
+        }
+
+        void accept(long line, JobCreateRequest request) {
+            Set<ConstraintViolation<JobCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            Job job = jobService.newJob(request, employer);
+            processed++;
+            chunk.add(job);
+            chunkLines.add(line);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            processed++;
+            report(line, message);
+        }
+
+        private void report(long line, String message) {
+            failed++;
+            if (failed <= MAX_REPORTED_ERRORS) {
+                listener.accept(JobImportEvent.builder()
+                    .type("ERROR")
+                    .line(line)
+                    .message(message)
+                    .build());
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Job job : jobRepository.saveAll(chunk)) {
+                        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CREATED, job));
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                // The chunk's transaction rolled back, so none of its rows were written; they are already counted as processed
+                entityManager.clear();
+                for (Long line : chunkLines) {
+                    report(line, "Not imported, the chunk failed to save: " + e.getMessage());
+                }
+            }
+            chunk.clear();
+            chunkLines.clear();
+            listener.accept(JobImportEvent.builder()
+                .type("PROGRESS")
+                .processed(processed)
+                .imported(imported)
+                .failed(failed)
+                .build());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.jobconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobconnect.dto.JobSummary;
+import com.jobconnect.dto.JobVersionRow;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.util.RawJson;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serialized UTF-8 JSON for each job, in summary (job card) and detail form.
+ * Entries are versioned by the job's and its employer's {@code updatedAt},
+ * so a stale fragment is never served even if an eviction is missed; a
+ * changed job is serialized again on its next read. Responses splice the
+ * cached fragments in through {@link RawJson}.
+ */
+@Component
+public class JobJsonCache {
+
+    static final int DESCRIPTION_EXCERPT_LENGTH = 300;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Entry> entries;
+
+    public JobJsonCache(
+            ObjectMapper objectMapper,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.job-json-cache.max-jobs:10000}") int maxJobs) {
+        this.objectMapper = objectMapper;
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxJobs;
+            }
+        };
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, event -> evict(event.getEntityId()), this::clear);
+    }
+
+    private record Entry(LocalDateTime updatedAt, LocalDateTime employerUpdatedAt, RawJson summary, RawJson detail) {
+
+        boolean isVersion(LocalDateTime jobVersion, LocalDateTime employerVersion) {
+            return Objects.equals(updatedAt, jobVersion) && Objects.equals(employerUpdatedAt, employerVersion);
+        }
+    }
+
+    public RawJson detail(Job job) {
+        Entry entry = lookup(job.getId(), job.getUpdatedAt(), employerUpdatedAt(job));
+        if (entry != null && entry.detail() != null) {
+            return entry.detail();
+        }
+        RawJson detail = new RawJson(write(job));
+        store(job, entry != null ? entry.summary() : null, detail);
+        return detail;
+    }
+
+    public RawJson summary(Job job) {
+        Entry entry = lookup(job.getId(), job.getUpdatedAt(), employerUpdatedAt(job));
+        if (entry != null && entry.summary() != null) {
+            return entry.summary();
+        }
+        RawJson summary = new RawJson(write(toSummary(job)));
+        store(job, summary, entry != null ? entry.detail() : null);
+        return summary;
+    }
+
+    /**
+     * Summaries for a page of (id, version) rows. Only jobs whose cached
+     * fragment is missing or out of date are loaded, with one call to
+     * {@code loader}; rows whose job has since disappeared are skipped.
+     */
+    public List<RawJson> summaries(List<JobVersionRow> rows, Function<List<Long>, List<Job>> loader) {
+        RawJson[] summaries = new RawJson[rows.size()];
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            JobVersionRow row = rows.get(i);
+            Entry entry = lookup(row.getId(), row.getUpdatedAt(), row.getEmployerUpdatedAt());
+            if (entry != null && entry.summary() != null) {
+                summaries[i] = entry.summary();
+            } else {
+                missing.add(row.getId());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Job> loaded = new HashMap<>();
+            for (Job job : loader.apply(missing)) {
+                loaded.put(job.getId(), job);
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                if (summaries[i] == null) {
+                    Job job = loaded.get(rows.get(i).getId());
+                    summaries[i] = job != null ? summary(job) : null;
+                }
+            }
+        }
+
+        List<RawJson> result = new ArrayList<>(summaries.length);
+        for (RawJson summary : summaries) {
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evict(event.getJobId());
+    }
+
+    private void evict(Long jobId) {
+        synchronized (entries) {
+            entries.remove(jobId);
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Entry lookup(Long jobId, LocalDateTime jobVersion, LocalDateTime employerVersion) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(jobId);
+        }
+        return entry != null && entry.isVersion(jobVersion, employerVersion) ? entry : null;
+    }
+
+    private void store(Job job, RawJson summary, RawJson detail) {
+        Entry entry = new Entry(job.getUpdatedAt(), employerUpdatedAt(job), summary, detail);
+        synchronized (entries) {
+            entries.put(job.getId(), entry);
+        }
+    }
+
+    private static LocalDateTime employerUpdatedAt(Job job) {
+        return job.getEmployer() != null ? job.getEmployer().getUpdatedAt() : null;
+    }
+
+    private static JobSummary toSummary(Job job) {
+        String description = job.getDescription();
+        if (description != null && description.length() > DESCRIPTION_EXCERPT_LENGTH) {
+            description = description.substring(0, DESCRIPTION_EXCERPT_LENGTH).stripTrailing() + "\u2026";
+        }
+        return JobSummary.builder()
+            .id(job.getId())
+            .title(job.getTitle())
+            .company(job.getCompany())
+            .location(job.getLocation())
+            .jobType(job.getJobType())
+            .workMode(job.getWorkMode())
+            .experienceLevel(job.getExperienceLevel())
+            .salary(job.getSalary())
+            .skills(job.getSkills())
+            .industry(job.getIndustry())
+            .description(description)
+            .status(job.getStatus())
+            .applicationDeadline(job.getApplicationDeadline())
+            .createdAt(job.getCreatedAt())
+            .updatedAt(job.getUpdatedAt())
+            .employerId(job.getEmployer() != null ? job.getEmployer().getId() : null)
+            .build();
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job", e);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.jobconnect.service;
 
 import com.jobconnect.dto.JobCreateRequest;
 import com.jobconnect.dto.JobSearchRequest;
-import com.jobconnect.entity.ApplicantAccount;
+import com.jobconnect.dto.JobVersionRow;
 import com.jobconnect.entity.EmployerAccount;
 import com.jobconnect.entity.Job;
+import com.jobconnect.entity.SavedJobId;
+import com.jobconnect.event.JobChangedEvent;
 import com.jobconnect.repository.JobRepository;
-import com.jobconnect.repository.ApplicantAccountRepository;
 import com.jobconnect.repository.EmployerAccountRepository;
+import com.jobconnect.repository.SavedJobRepository;
+import com.jobconnect.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,8 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,23 +37,65 @@ import java.util.Optional;
 public class JobService {
 
     private final JobRepository jobRepository;
-    private final ApplicantAccountRepository applicantRepository;
     private final EmployerAccountRepository employerRepository;
+    private final SavedJobRepository savedJobRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final ApplicationHistoryService applicationHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrendingJobTracker trendingJobTracker;
 
+    @Transactional(readOnly = true)
     public Page<Job> getAllJobs(Pageable pageable) {
         return jobRepository.findByStatus("ACTIVE", pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Page<JobVersionRow> getActiveJobVersions(Pageable pageable) {
+        return jobRepository.findVersionsByStatus("ACTIVE", pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<JobVersionRow> getJobVersion(Long id) {
+        return jobRepository.findVersion(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Job> getJobsByIds(Collection<Long> jobIds) {
+        return jobRepository.findAllById(jobIds);
+    }
+
+    /** The hottest active jobs from the in-memory trending snapshot, loaded by primary key. */
+    @Transactional(readOnly = true)
+    public List<Job> getTrendingJobs(int limit) {
+        List<Long> jobIds = trendingJobTracker.getTrendingJobIds(limit);
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = new ArrayList<>(jobIds.size());
+        for (Long jobId : jobIds) {
+            Job job = jobsById.get(jobId);
+            if (job != null && "ACTIVE".equals(job.getStatus())) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    @Transactional(readOnly = true)
     public Page<Job> searchJobs(JobSearchRequest request) {
         Specification<Job> spec = buildJobSpecification(request);
         Pageable pageable = buildPageable(request);
         return jobRepository.findAll(spec, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Job> getJobById(Long id) {
         return jobRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> getJobsByEmployer(Long employerId) {
         EmployerAccount employer = employerRepository.findById(employerId)
             .orElseThrow(() -> new RuntimeException("Employer account not found"));
@@ -56,12 +106,17 @@ public class JobService {
         EmployerAccount employer = employerRepository.findById(employerId)
             .orElseThrow(() -> new RuntimeException("Employer account not found"));
 
+        Job job = jobRepository.save(newJob(request, employer));
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CREATED, job));
+        return job;
+    }
+
+    Job newJob(JobCreateRequest request, EmployerAccount employer) {
         Job job = new Job();
         mapJobCreateRequestToJob(request, job);
         job.setEmployer(employer);
         job.setCompany(employer.getCompanyName() != null ? employer.getCompanyName() : request.getCompany());
-        
-        return jobRepository.save(job);
+        return job;
     }
 
     public Job updateJob(Long jobId, JobCreateRequest request, Long employerId) {
@@ -73,7 +128,9 @@ public class JobService {
         }
         
         mapJobCreateRequestToJob(request, job);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.UPDATED, saved));
+        return saved;
     }
 
     public void deleteJob(Long jobId, Long employerId) {
@@ -84,7 +141,11 @@ public class JobService {
             throw new RuntimeException("Not authorized to delete this job");
         }
         
+        applicationStatsService.removeJob(jobId);
+        applicationHistoryService.removeJob(jobId);
+        savedJobRepository.deleteByJobId(jobId);
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.DELETED, job));
     }
 
     public void closeJob(Long jobId, Long employerId) {
@@ -97,34 +158,40 @@ public class JobService {
         
         job.setStatus("CLOSED");
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CLOSED, job));
     }
 
+    @Transactional(readOnly = true)
     public List<Job> getSavedJobs(Long applicantId) {
-        ApplicantAccount applicant = applicantRepository.findById(applicantId)
-            .orElseThrow(() -> new RuntimeException("Applicant account not found"));
-        return applicant.getSavedJobs();
+        return savedJobRepository.findSavedJobs(applicantId);
     }
 
-    public void saveJob(Long jobId, Long applicantId) {
-        ApplicantAccount applicant = applicantRepository.findById(applicantId)
-            .orElseThrow(() -> new RuntimeException("Applicant account not found"));
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
+    @Transactional(readOnly = true)
+    public Page<Job> getSavedJobs(Long applicantId, Pageable pageable) {
+        return savedJobRepository.findSavedJobs(applicantId, pageable);
+    }
 
-        if (!applicant.getSavedJobs().contains(job)) {
-            applicant.getSavedJobs().add(job);
-            applicantRepository.save(applicant);
+    @Transactional(readOnly = true)
+    public List<Long> getSavedJobIds(Long applicantId, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
         }
+        return savedJobRepository.findSavedJobIds(applicantId, jobIds);
     }
 
-    public void unsaveJob(Long jobId, Long applicantId) {
-        ApplicantAccount applicant = applicantRepository.findById(applicantId)
-            .orElseThrow(() -> new RuntimeException("Applicant account not found"));
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
+    public void saveJob(Long jobId, Long applicantId) {
+        if (savedJobRepository.insertIfAbsent(applicantId, jobId, LocalDateTime.now()) == 0) {
+            // Already saved, or the job or applicant does not exist
+            if (!savedJobRepository.existsById(new SavedJobId(applicantId, jobId))) {
+                throw new RuntimeException("Job not found");
+            }
+            return;
+        }
+        TransactionHooks.afterCommit(() -> trendingJobTracker.record(jobId, TrendingJobTracker.Signal.SAVE));
+    }
 
-        applicant.getSavedJobs().remove(job);
-        applicantRepository.save(applicant);
+    public void unsaveJob(Long jobId, Long applicantId) {
+        savedJobRepository.deleteOne(applicantId, jobId);
     }
 
     private void mapJobCreateRequestToJob(JobCreateRequest request, Job job) {
@@ -0,0 +1,282 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.JobViewsResponse;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.security.AccountPrincipal;
+import com.jobconnect.util.ConcurrentLongMap;
+import com.jobconnect.util.HyperLogLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts job detail views without a database write per view.
+ *
+ * <p>Each UTC day has a window: a {@link ConcurrentLongMap} from job id to a
+ * {@link LongAdder} of views and a {@link HyperLogLog} of distinct viewers.
+ * Recording a view is a lock-free lookup, an adder increment and a register
+ * update. Every few seconds the deltas are flushed to job_view_stats in
+ * batches: view counts are added, and each day's stored sketch is merged with
+ * the in-memory one under a row lock, so several instances can share a row.
+ * A finished day's window is flushed twice more after rollover and dropped,
+ * so views recorded across the rollover are not lost.
+ *
+ * <p>A deleted job's counters are replaced with a marker in every window, so
+ * views still in flight are ignored and no flush writes its rows back.
+ */
+@Service
+public class JobViewTracker {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int UNIQUE_VIEWER_DAYS = 30;
+    // Stands in for a deleted job's counters; never flushed or read
+    private static final JobViews DELETED = new JobViews();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private volatile Window window = new Window(currentDay());
+    // Finished windows awaiting their last flushes
+    private final List<Window> retired = new CopyOnWriteArrayList<>();
+
+    public JobViewTracker(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ChangeEventBus changeEventBus,
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.job-views.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        Gauge.builder("jobconnect.job-views.tracked-jobs", this, tracker -> tracker.window.jobs.size())
+            .register(meterRegistry);
+        // Nothing to resync: a deletion missed here only leaves counters for a job nobody can view
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, this::onRemoteJobChanged, () -> { });
+    }
+
+    private static final class JobViews {
+
+        final LongAdder views = new LongAdder();
+        final HyperLogLog viewers = new HyperLogLog();
+        volatile boolean viewersChanged;
+    }
+
+    private static final class Window {
+
+        final long day;
+        final ConcurrentLongMap<JobViews> jobs = new ConcurrentLongMap<>(1024);
+        int flushesLeft = 2;
+
+        Window(long day) {
+            this.day = day;
+        }
+    }
+
+    private record Delta(long jobId, JobViews counters, long views, boolean viewersChanged) {
+    }
+
+    /**
+     * Records one view. Signed-in viewers are identified by account, anonymous
+     * ones by client address and user agent.
+     */
+    public void recordView(long jobId, AccountPrincipal principal, String clientAddress, String userAgent) {
+        long viewer = principal != null
+            ? ((long) principal.getRole().ordinal() << 56) ^ principal.getId()
+            : ((long) hashCode(clientAddress) << 32) ^ (hashCode(userAgent) & 0xffffffffL);
+
+        JobViews counters = currentWindow().jobs.computeIfAbsent(jobId, id -> new JobViews());
+        if (counters == DELETED) {
+            return;
+        }
+        counters.views.increment();
+        if (counters.viewers.add(HyperLogLog.hash(viewer))) {
+            counters.viewersChanged = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.job-views.flush-interval:PT5S}")
+    public synchronized void flush() {
+        currentWindow();
+        for (Window finished : retired) {
+            // A window is only dropped after flushes that wrote everything it held
+            if (flush(finished) && --finished.flushesLeft <= 0) {
+                retired.remove(finished);
+            }
+        }
+        flush(window);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** All-time views, plus views and distinct viewers over the last 30 days, including unflushed ones. */
+    public JobViewsResponse getViews(long jobId) {
+        long today = currentDay();
+        long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(views), 0) FROM job_view_stats WHERE job_id = ?", Long.class, jobId);
+        long recent = 0;
+        HyperLogLog viewers = new HyperLogLog();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT views, hll FROM job_view_stats WHERE job_id = ? AND day > ?",
+                jobId, LocalDate.ofEpochDay(today - UNIQUE_VIEWER_DAYS))) {
+            recent += ((Number) row.get("views")).longValue();
+            viewers.merge((byte[]) row.get("hll"));
+        }
+
+        List<Window> windows = new ArrayList<>(retired);
+        windows.add(window);
+        for (Window current : windows) {
+            JobViews counters = current.jobs.get(jobId);
+            if (counters != null && counters != DELETED) {
+                long pending = counters.views.sum();
+                total += pending;
+                recent += pending;
+                viewers.merge(counters.viewers);
+            }
+        }
+
+        return JobViewsResponse.builder()
+            .jobId(jobId)
+            .views(total)
+            .viewsLast30Days(recent)
+            .uniqueViewersLast30Days(viewers.estimate())
+            .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            forget(event.getJobId());
+        }
+    }
+
+    // JOB events are also sent when a job closes, and a closed job keeps its views
+    private void onRemoteJobChanged(ChangeEvent event) {
+        if (event.isRemoved() && jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM jobs WHERE id = ?", Integer.class, event.getEntityId()) == 0) {
+            forget(event.getEntityId());
+        }
+    }
+
+    /**
+     * Drops a deleted job's counters, then its stored rows. Holding the flush
+     * lock means a flush cannot write the counters back in between; each node
+     * deletes the rows again after dropping its own counters.
+     */
+    private synchronized void forget(long jobId) {
+        // The current window first: a concurrent rollover retires it before replacing it
+        window.jobs.put(jobId, DELETED);
+        for (Window finished : retired) {
+            finished.jobs.put(jobId, DELETED);
+        }
+        jdbcTemplate.update("DELETE FROM job_view_stats WHERE job_id = ?", jobId);
+    }
+
+    private Window currentWindow() {
+        Window current = window;
+        long today = currentDay();
+        if (current.day == today) {
+            return current;
+        }
+        synchronized (retired) {
+            if (window.day != today) {
+                retired.add(window);
+                window = new Window(today);
+            }
+            return window;
+        }
+    }
+
+    private boolean flush(Window target) {
+        List<Delta> deltas = new ArrayList<>();
+        target.jobs.forEach((jobId, counters) -> {
+            if (counters == DELETED) {
+                return;
+            }
+            // Clear the flag before reading the registers, so a concurrent change sets it again
+            boolean viewersChanged = counters.viewersChanged;
+            counters.viewersChanged = false;
+            long views = counters.views.sumThenReset();
+            if (views > 0 || viewersChanged) {
+                deltas.add(new Delta(jobId, counters, views, viewersChanged));
+            }
+        });
+
+        boolean written = true;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Delta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                write(LocalDate.ofEpochDay(target.day), batch);
+            } catch (RuntimeException e) {
+                // Put the deltas back for the next flush
+                written = false;
+                for (Delta delta : batch) {
+                    delta.counters().views.add(delta.views());
+                    if (delta.viewersChanged()) {
+                        delta.counters().viewersChanged = true;
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    private void write(LocalDate day, List<Delta> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Lock the existing rows so concurrent instances merge sketches instead of overwriting them
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            List<Object> args = new ArrayList<>(batch.size() + 1);
+            args.add(day);
+            batch.forEach(delta -> args.add(delta.jobId()));
+            Map<Long, byte[]> stored = new HashMap<>();
+            jdbcTemplate.query(
+                "SELECT job_id, hll FROM job_view_stats WHERE day = ? AND job_id IN (" + placeholders + ") FOR UPDATE",
+                (RowCallbackHandler) rs -> {
+                    stored.put(rs.getLong("job_id"), rs.getBytes("hll"));
+                },
+                args.toArray());
+
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (Delta delta : batch) {
+                HyperLogLog viewers = delta.counters().viewers;
+                viewers.merge(stored.get(delta.jobId()));
+                rows.add(new Object[] {
+                    delta.jobId(), day, delta.views(), viewers.estimate(), viewers.toByteArray()
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO job_view_stats (job_id, day, views, unique_viewers, hll) VALUES (?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE views = views + VALUES(views), " +
+                "unique_viewers = VALUES(unique_viewers), hll = VALUES(hll)",
+                rows);
+        });
+    }
+
+    private static long currentDay() {
+        return System.currentTimeMillis() / MILLIS_PER_DAY;
+    }
+
+    private static int hashCode(String value) {
+        return value != null ? value.hashCode() : 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobconnect.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ResumeStorage} on the local filesystem. Files are laid out as
+ * {@code <root>/ab/cd/abcd...} by digest. An upload is written to a temporary
+ * file in the same directory tree while its digest is computed, then renamed
+ * into place, so a file is either absent or complete and concurrent uploads of
+ * the same content are harmless.
+ */
+@Component
+@ConditionalOnProperty(name = "jobconnect.resumes.storage", havingValue = "local", matchIfMissing = true)
+public class LocalResumeStorage implements ResumeStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalResumeStorage(@Value("${jobconnect.resumes.storage-dir:data/resumes}") Path root) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDir = Files.createDirectories(this.root.resolve("tmp"));
+    }
+
+    @Override
+    public StoredFile store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new RuntimeException("Resume exceeds the " + maxBytes / 1024 + " KB size limit");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = pathFor(sha256);
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content stored concurrently; either copy will do
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return new StoredFile(sha256, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String sha256) throws IOException {
+        return Files.newInputStream(pathFor(sha256));
+    }
+
+    @Override
+    public void transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(pathFor(sha256), StandardOpenOption.READ)) {
+            long end = position + count;
+            // transferTo may move fewer bytes than asked for; loop until the range is done
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0 && position >= channel.size()) {
+                    throw new IOException("Resume file " + sha256 + " is shorter than expected");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sha256) throws IOException {
+        Files.deleteIfExists(pathFor(sha256));
+    }
+
+    @Override
+    public Optional<Path> localFile(String sha256) {
+        Path path = pathFor(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path pathFor(String sha256) {
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 digest: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobconnect.service;
+
+import com.jobconnect.security.RateLimitExceededException;
+import com.jobconnect.security.RateLimiter;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks failed logins per email and client address over a sliding window and
+ * locks that pair out for a while once too many land inside it. Keying on the
+ * address as well means failures from one client cannot lock the account's
+ * owner out from elsewhere. Only the timestamps of the last {@code maxFailures}
+ * failures are kept, in a ring: the window is exceeded exactly when the oldest
+ * of them is still inside it.
+ */
+@Service
+public class LoginAttemptService {
+
+    private static final String LOCKOUT_METRIC_NAME = "login-lockout";
+
+    private final RateLimiter rateLimiter;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long lockoutMillis;
+    private final Map<String, Attempts> attemptsByClient = new ConcurrentHashMap<>();
+
+    public LoginAttemptService(
+            RateLimiter rateLimiter,
+            @Value("${jobconnect.login.max-failures:5}") int maxFailures,
+            @Value("${jobconnect.login.failure-window:PT15M}") Duration window,
+            @Value("${jobconnect.login.lockout:PT15M}") Duration lockout) {
+        this.rateLimiter = rateLimiter;
+        this.maxFailures = maxFailures;
+        this.windowMillis = window.toMillis();
+        this.lockoutMillis = lockout.toMillis();
+    }
+
+    private final class Attempts {
+
+        final long[] failures = new long[maxFailures];
+        int next;
+        int count;
+        long lockedUntil;
+
+        synchronized long remainingLockout(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        synchronized void failed(long now) {
+            failures[next] = now;
+            next = (next + 1) % failures.length;
+            count = Math.min(count + 1, failures.length);
+            // With the ring full, `next` points at the oldest of the last maxFailures failures
+            if (count == failures.length && now - failures[next] <= windowMillis) {
+                lockedUntil = now + lockoutMillis;
+                count = 0;
+            }
+        }
+
+        synchronized boolean isIdle(long now) {
+            long last = failures[(next + failures.length - 1) % failures.length];
+            return lockedUntil <= now && now - last > windowMillis;
+        }
+    }
+
+    /** Throws {@link RateLimitExceededException} while {@code email} is locked out for {@code clientAddress}. */
+    public void checkAllowed(String email, String clientAddress) {
+        Attempts attempts = attemptsByClient.get(key(email, clientAddress));
+        if (attempts == null) {
+            return;
+        }
+        long remaining = attempts.remainingLockout(System.currentTimeMillis());
+        if (remaining > 0) {
+            rateLimiter.recordRejection(LOCKOUT_METRIC_NAME);
+            throw new RateLimitExceededException(
+                "Too many failed login attempts. Please try again later.", Duration.ofMillis(remaining));
+        }
+    }
+
+    public void loginFailed(String email, String clientAddress) {
+        attemptsByClient.computeIfAbsent(key(email, clientAddress), k -> new Attempts()).failed(System.currentTimeMillis());
+    }
+
+    public void loginSucceeded(String email, String clientAddress) {
+        attemptsByClient.remove(key(email, clientAddress));
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        attemptsByClient.values().removeIf(attempts -> attempts.isIdle(now));
+    }
+
+    private static String key(String email, String clientAddress) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        // A client address contains no space, so no two pairs share a key
+        return normalized + ' ' + clientAddress;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobconnect.service;
 
 import com.jobconnect.dto.NotificationResponse;
+import com.jobconnect.dto.NotificationVersion;
 import com.jobconnect.entity.ApplicantAccount;
 import com.jobconnect.entity.EmployerAccount;
 import com.jobconnect.entity.Notification;
@@ -71,6 +72,11 @@ public class NotificationService {
         notificationRepository.saveAll(notifications);
     }
 
+    @Transactional(readOnly = true)
+    public NotificationVersion getNotificationsVersion(Long applicantId) {
+        return notificationRepository.findVersion(applicantId);
+    }
+
     @Transactional(readOnly = true)
     public long getUnreadCount(Long applicantId) {
         return notificationRepository.countByApplicantIdAndReadFalse(applicantId);
@@ -0,0 +1,421 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.JobIndexRow;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.util.TermAnalyzer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory TF-IDF model of active jobs used for applicant recommendations.
+ *
+ * <p>Each job is reduced to a sparse, L2-normalized vector of log term
+ * frequencies over its skills, title and description, pruned to its
+ * strongest terms, and stored in an inverted index of term to (doc, weight)
+ * postings. IDF is applied at query time so postings never need rewriting
+ * when document frequencies move. Queries walk the postings with WAND: each
+ * term carries an upper bound on its contribution, and documents that cannot
+ * beat the current k-th best score are skipped without being scored.
+ *
+ * <p>Committed job changes are applied incrementally. Replaced and removed
+ * jobs leave tombstoned postings behind that queries skip; the nightly
+ * rebuild drops them and recomputes document frequencies.
+ */
+@Component
+public class RecommendationIndex {
+
+    static final float SKILL_PHRASE_WEIGHT = 4f;
+    static final float SKILL_WEIGHT = 3f;
+    static final float TITLE_WEIGHT = 2f;
+    static final float TEXT_WEIGHT = 1f;
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final JobRepository jobRepository;
+    private final int maxTermsPerJob;
+    private final Object rebuildLock = new Object();
+    private volatile Segment segment = new Segment();
+    // Changes that arrive while a rebuild is loading, replayed onto the new segment; guarded by rebuildLock
+    private List<Consumer<Segment>> pendingDuringRebuild;
+
+    public RecommendationIndex(
+            JobRepository jobRepository,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.recommendations.max-terms-per-job:48}") int maxTermsPerJob) {
+        this.jobRepository = jobRepository;
+        this.maxTermsPerJob = maxTermsPerJob;
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB, this::onRemoteJobChanged, this::rebuild);
+    }
+
+    public record ScoredJob(long jobId, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${jobconnect.recommendations.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            long afterId = 0;
+            List<JobIndexRow> rows;
+            do {
+                rows = jobRepository.findIndexRows(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (JobIndexRow row : rows) {
+                    fresh.put(row.getId(), documentVector(row.getSkills(), row.getTitle(), row.getDescription()));
+                    afterId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            segment = fresh;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.getJob();
+        if (event.isActive()) {
+            TermVector vector = documentVector(job.getSkills(), job.getTitle(), job.getDescription());
+            apply(target -> target.put(job.getId(), vector));
+        } else {
+            apply(target -> target.remove(job.getId()));
+        }
+    }
+
+    private void onRemoteJobChanged(ChangeEvent event) {
+        long jobId = event.getEntityId();
+        JobIndexRow row = event.isRemoved() ? null : jobRepository.findIndexRow(jobId).orElse(null);
+        if (row != null) {
+            TermVector vector = documentVector(row.getSkills(), row.getTitle(), row.getDescription());
+            apply(target -> target.put(jobId, vector));
+        } else {
+            apply(target -> target.remove(jobId));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} active jobs ranked by similarity to the
+     * applicant's profile, best first, skipping jobs {@code exclude} rejects.
+     */
+    public List<ScoredJob> recommend(String skills, String experience, String education,
+                                     int limit, LongPredicate exclude) {
+        TermVector query = queryVector(skills, experience, education);
+        if (query.size() == 0) {
+            return List.of();
+        }
+        return segment.search(query, limit, exclude);
+    }
+
+    public int size() {
+        return segment.size();
+    }
+
+    private void apply(Consumer<Segment> change) {
+        synchronized (rebuildLock) {
+            change.accept(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private TermVector documentVector(String skills, String title, String description) {
+        Map<String, Float> frequencies = new HashMap<>();
+        TermAnalyzer.skills(skills,
+            term -> frequencies.merge(term, SKILL_PHRASE_WEIGHT, Float::sum),
+            term -> frequencies.merge(term, SKILL_WEIGHT, Float::sum));
+        TermAnalyzer.words(title, term -> frequencies.merge(term, TITLE_WEIGHT, Float::sum));
+        TermAnalyzer.words(description, term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+        return TermVector.of(frequencies, maxTermsPerJob, true);
+    }
+
+    private TermVector queryVector(String skills, String experience, String education) {
+        Map<String, Float> frequencies = new HashMap<>();
+        TermAnalyzer.skills(skills,
+            term -> frequencies.merge(term, SKILL_PHRASE_WEIGHT, Float::sum),
+            term -> frequencies.merge(term, SKILL_WEIGHT, Float::sum));
+        TermAnalyzer.words(experience, term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+        TermAnalyzer.words(education, term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+        return TermVector.of(frequencies, Integer.MAX_VALUE, false);
+    }
+
+    /** Sparse term vector with log-scaled weights, optionally pruned and L2-normalized. */
+    private static final class TermVector {
+
+        final String[] terms;
+        final float[] weights;
+
+        private TermVector(String[] terms, float[] weights) {
+            this.terms = terms;
+            this.weights = weights;
+        }
+
+        static TermVector of(Map<String, Float> frequencies, int maxTerms, boolean normalize) {
+            List<Map.Entry<String, Float>> entries = new ArrayList<>(frequencies.entrySet());
+            if (entries.size() > maxTerms) {
+                entries.sort(Map.Entry.<String, Float>comparingByValue().reversed());
+                entries = entries.subList(0, maxTerms);
+            }
+            String[] terms = new String[entries.size()];
+            float[] weights = new float[entries.size()];
+            double sumOfSquares = 0;
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = entries.get(i).getKey();
+                weights[i] = (float) (1 + Math.log(entries.get(i).getValue()));
+                sumOfSquares += weights[i] * weights[i];
+            }
+            if (normalize && sumOfSquares > 0) {
+                float norm = (float) Math.sqrt(sumOfSquares);
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] /= norm;
+                }
+            }
+            return new TermVector(terms, weights);
+        }
+
+        int size() {
+            return terms.length;
+        }
+    }
+
+    /** Doc numbers ascending within a term, so postings can be intersected by skipping forward. */
+    private static final class PostingList {
+
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+        int documentFrequency;
+        float maxWeight;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+            documentFrequency++;
+            maxWeight = Math.max(maxWeight, weight);
+        }
+    }
+
+    private static final class Cursor {
+
+        final PostingList postings;
+        final float queryWeight;
+        final float upperBound;
+        int position;
+
+        Cursor(PostingList postings, float queryWeight) {
+            this.postings = postings;
+            this.queryWeight = queryWeight;
+            this.upperBound = queryWeight * postings.maxWeight;
+        }
+
+        int doc() {
+            return position < postings.size ? postings.docs[position] : Integer.MAX_VALUE;
+        }
+
+        float score() {
+            return queryWeight * postings.weights[position];
+        }
+
+        void advanceTo(int target) {
+            int found = Arrays.binarySearch(postings.docs, position, postings.size, target);
+            position = found >= 0 ? found : -found - 1;
+        }
+    }
+
+    /**
+     * One generation of the index. Doc numbers are handed out in increasing
+     * order and never reused, so appending keeps every posting list sorted.
+     */
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, PostingList> postingsByTerm = new HashMap<>();
+        private final Map<Long, Integer> docByJobId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] jobIdByDoc = new long[1024];
+        private int nextDoc;
+
+        void put(long jobId, TermVector vector) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(jobId);
+                if (vector.size() == 0) {
+                    return;
+                }
+                int doc = nextDoc++;
+                if (doc == jobIdByDoc.length) {
+                    jobIdByDoc = Arrays.copyOf(jobIdByDoc, doc * 2);
+                }
+                jobIdByDoc[doc] = jobId;
+                docByJobId.put(jobId, doc);
+                for (int i = 0; i < vector.size(); i++) {
+                    postingsByTerm.computeIfAbsent(vector.terms[i], term -> new PostingList())
+                        .add(doc, vector.weights[i]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long jobId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(jobId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(long jobId) {
+            Integer doc = docByJobId.remove(jobId);
+            if (doc != null) {
+                deleted.set(doc);
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return docByJobId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<ScoredJob> search(TermVector query, int limit, LongPredicate exclude) {
+            lock.readLock().lock();
+            try {
+                int liveDocs = docByJobId.size();
+                if (liveDocs == 0) {
+                    return List.of();
+                }
+
+                Cursor[] cursors = new Cursor[query.size()];
+                int count = 0;
+                for (int i = 0; i < query.size(); i++) {
+                    PostingList postings = postingsByTerm.get(query.terms[i]);
+                    if (postings != null && postings.size > 0) {
+                        double idf = Math.log(1 + (double) liveDocs / postings.documentFrequency);
+                        cursors[count++] = new Cursor(postings, (float) (query.weights[i] * idf * idf));
+                    }
+                }
+
+                PriorityQueue<ScoredJob> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredJob::score));
+                while (true) {
+                    count = sortByDoc(cursors, count);
+                    if (count == 0) {
+                        break;
+                    }
+
+                    // Pivot: first cursor at which the summed upper bounds could beat the k-th best score
+                    double threshold = top.size() < limit ? 0 : top.peek().score();
+                    double bound = 0;
+                    int pivot = -1;
+                    for (int i = 0; i < count; i++) {
+                        bound += cursors[i].upperBound;
+                        if (bound > threshold) {
+                            pivot = i;
+                            break;
+                        }
+                    }
+                    if (pivot < 0) {
+                        break;
+                    }
+
+                    int pivotDoc = cursors[pivot].doc();
+                    if (cursors[0].doc() == pivotDoc) {
+                        double score = 0;
+                        for (int i = 0; i < count && cursors[i].doc() == pivotDoc; i++) {
+                            score += cursors[i].score();
+                            cursors[i].position++;
+                        }
+                        long jobId = jobIdByDoc[pivotDoc];
+                        if (!deleted.get(pivotDoc) && !exclude.test(jobId)) {
+                            if (top.size() < limit) {
+                                top.add(new ScoredJob(jobId, score));
+                            } else if (score > threshold) {
+                                top.poll();
+                                top.add(new ScoredJob(jobId, score));
+                            }
+                        }
+                    } else {
+                        for (int i = 0; i < pivot; i++) {
+                            cursors[i].advanceTo(pivotDoc);
+                        }
+                    }
+                }
+
+                List<ScoredJob> results = new ArrayList<>(top.size());
+                while (!top.isEmpty()) {
+                    results.add(top.poll());
+                }
+                Collections.reverse(results);
+                return results;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /** Insertion sort by current doc (query vectors are short), dropping exhausted cursors. */
+        private static int sortByDoc(Cursor[] cursors, int count) {
+            for (int i = 1; i < count; i++) {
+                Cursor cursor = cursors[i];
+                int doc = cursor.doc();
+                int j = i - 1;
+                while (j >= 0 && cursors[j].doc() > doc) {
+                    cursors[j + 1] = cursors[j];
+                    j--;
+                }
+                cursors[j + 1] = cursor;
+            }
+            while (count > 0 && cursors[count - 1].doc() == Integer.MAX_VALUE) {
+                count--;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobconnect.service;
+
+import com.jobconnect.entity.ApplicantAccount;
+import com.jobconnect.entity.Job;
+import com.jobconnect.repository.JobRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final RecommendationIndex recommendationIndex;
+    private final AccountService accountService;
+    private final AppliedJobsCache appliedJobsCache;
+    private final JobRepository jobRepository;
+
+    /** Active jobs closest to the applicant's skills, experience and education, excluding ones already applied to. */
+    @Transactional(readOnly = true)
+    public List<Job> getRecommendedJobs(Long applicantId, int limit) {
+        ApplicantAccount applicant = accountService.requireApplicant(applicantId);
+        long[] appliedJobIds = appliedJobsCache.getJobIds(applicantId);
+
+        List<RecommendationIndex.ScoredJob> scored = recommendationIndex.recommend(
+            applicant.getSkills(), applicant.getExperience(), applicant.getEducation(),
+            limit, jobId -> Arrays.binarySearch(appliedJobIds, jobId) >= 0);
+        if (scored.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> jobIds = scored.stream().map(RecommendationIndex.ScoredJob::jobId).toList();
+        Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = new ArrayList<>(jobIds.size());
+        for (Long jobId : jobIds) {
+            Job job = jobsById.get(jobId);
+            if (job != null && "ACTIVE".equals(job.getStatus())) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+}
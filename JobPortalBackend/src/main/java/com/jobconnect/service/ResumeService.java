@@ -0,0 +1,208 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.ResumeResponse;
+import com.jobconnect.entity.ApplicantAccount;
+import com.jobconnect.entity.Resume;
+import com.jobconnect.event.ResumeUploadedEvent;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.repository.ResumeRepository;
+import com.jobconnect.security.AccountPrincipal;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Resume uploads and the access rules for downloading them. The file is
+ * streamed into {@link ResumeStorage} before any database work starts, so no
+ * connection is held while it is written.
+ */
+@Service
+public class ResumeService {
+
+    public static final String URL_PREFIX = "/api/resumes/";
+
+    private static final String PDF = "application/pdf";
+    private static final String DOC = "application/msword";
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] OLE_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+    private static final String DOCX_CONTENT_TYPES = "[Content_Types].xml";
+    private static final String DOCX_BODY = "word/document.xml";
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final ResumeStorage resumeStorage;
+    private final ResumeRepository resumeRepository;
+    private final ApplicantAccountRepository applicantAccountRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final AccountService accountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxBytes;
+
+    public ResumeService(
+            ResumeStorage resumeStorage,
+            ResumeRepository resumeRepository,
+            ApplicantAccountRepository applicantAccountRepository,
+            JobApplicationRepository applicationRepository,
+            AccountService accountService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${jobconnect.resumes.max-size:5MB}") DataSize maxSize) {
+        this.resumeStorage = resumeStorage;
+        this.resumeRepository = resumeRepository;
+        this.applicantAccountRepository = applicantAccountRepository;
+        this.applicationRepository = applicationRepository;
+        this.accountService = accountService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * Stores {@code content} as it is read and makes it the applicant's current
+     * resume. The size limit is enforced while copying.
+     */
+    public ResumeResponse upload(Long applicantId, String originalFileName, InputStream content) {
+        String fileName = cleanFileName(originalFileName);
+
+        String contentType;
+        ResumeStorage.StoredFile stored;
+        try (InputStream in = new BufferedInputStream(content)) {
+            in.mark(OLE_MAGIC.length);
+            byte[] head = in.readNBytes(OLE_MAGIC.length);
+            in.reset();
+            if (head.length == 0) {
+                throw new RuntimeException("Resume file is required");
+            }
+            contentType = detectContentType(head, fileName);
+            stored = resumeStorage.store(in, maxBytes);
+            if (DOCX.equals(contentType) && !isDocx(stored.sha256())) {
+                resumeStorage.delete(stored.sha256());
+                throw new RuntimeException("The file is not a valid DOCX document");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store resume", e);
+        }
+
+        Resume saved = transactionTemplate.execute(status -> {
+            ApplicantAccount applicant = accountService.requireApplicant(applicantId);
+            Resume resume = new Resume();
+            resume.setApplicant(applicant);
+            resume.setApplicantId(applicantId);
+            resume.setSha256(stored.sha256());
+            resume.setFileName(fileName);
+            resume.setContentType(contentType);
+            resume.setSize(stored.size());
+            resume = resumeRepository.save(resume);
+
+            applicant.setResumeUrl(URL_PREFIX + resume.getId());
+            applicantAccountRepository.save(applicant);
+            // Text extraction for talent search starts once this commits
+            eventPublisher.publishEvent(new ResumeUploadedEvent(
+                applicantId, resume.getId(), resume.getSha256(), resume.getContentType()));
+            return resume;
+        });
+        return toResponse(saved);
+    }
+
+    public Optional<Resume> getLatestResume(Long applicantId) {
+        return resumeRepository.findFirstByApplicantIdOrderByUploadedAtDescIdDesc(applicantId);
+    }
+
+    /**
+     * The resume if {@code principal} may download it: its owner, or an
+     * employer it was submitted to. Empty otherwise, so callers answer 404
+     * without revealing whether the resume exists.
+     */
+    public Optional<Resume> getResumeForDownload(Long resumeId, AccountPrincipal principal) {
+        return resumeRepository.findById(resumeId).filter(resume -> principal.getRole().isApplicant()
+            ? resume.getApplicantId().equals(principal.getId())
+            : applicationRepository.existsByResumeIdAndEmployerId(resumeId, principal.getId()));
+    }
+
+    /** The applicant's uploaded resume that {@code resumeUrl} points at, or null for an external link. */
+    public Resume resolveUploadedResume(String resumeUrl, Long applicantId) {
+        if (resumeUrl == null || !resumeUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        try {
+            Long resumeId = Long.valueOf(resumeUrl.substring(URL_PREFIX.length()));
+            return resumeRepository.findById(resumeId)
+                .filter(resume -> resume.getApplicantId().equals(applicantId))
+                .orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public ResumeResponse toResponse(Resume resume) {
+        return ResumeResponse.builder()
+            .id(resume.getId())
+            .fileName(resume.getFileName())
+            .contentType(resume.getContentType())
+            .size(resume.getSize())
+            .sha256(resume.getSha256())
+            .uploadedAt(resume.getUploadedAt())
+            .url(URL_PREFIX + resume.getId())
+            .build();
+    }
+
+    // The declared content type is ignored; only the file's leading bytes are trusted
+    private static String detectContentType(byte[] head, String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (startsWith(head, PDF_MAGIC)) {
+            return PDF;
+        }
+        if (startsWith(head, OLE_MAGIC) && name.endsWith(".doc")) {
+            return DOC;
+        }
+        if (startsWith(head, ZIP_MAGIC) && name.endsWith(".docx")) {
+            return DOCX;
+        }
+        throw new RuntimeException("Only PDF, DOC and DOCX resumes are accepted");
+    }
+
+    // Any ZIP passes the magic check; a Word document also has its content types and body parts
+    private boolean isDocx(String sha256) throws IOException {
+        boolean contentTypes = false;
+        boolean body = false;
+        try (ZipInputStream zip = new ZipInputStream(resumeStorage.open(sha256))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null && !(contentTypes && body); entry = zip.getNextEntry()) {
+                contentTypes |= DOCX_CONTENT_TYPES.equals(entry.getName());
+                body |= DOCX_BODY.equals(entry.getName());
+            }
+        } catch (ZipException e) {
+            return false;
+        }
+        return contentTypes && body;
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        return head.length >= magic.length && Arrays.equals(head, 0, magic.length, magic, 0, magic.length);
+    }
+
+    private static String cleanFileName(String original) {
+        String name = original == null ? "" : original;
+        // Browsers on some platforms send the full client path
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("\\p{Cntrl}", "").strip();
+        if (name.isEmpty()) {
+            name = "resume";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(name.length() - MAX_FILE_NAME_LENGTH) : name;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobconnect.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for resume files: a file is stored, and found
+ * again, under the hex SHA-256 of its bytes, so uploading the same file twice
+ * keeps one copy. Implementations stream in both directions and never hold a
+ * whole file in memory.
+ */
+public interface ResumeStorage {
+
+    /** Digest and length of a stored file. */
+    record StoredFile(String sha256, long size) {
+    }
+
+    /**
+     * Copies {@code content} into the store. Reading stops with an exception,
+     * and nothing is stored, once more than {@code maxBytes} have been read.
+     */
+    StoredFile store(InputStream content, long maxBytes) throws IOException;
+
+    /** Opens the stored file for reading from the start. */
+    InputStream open(String sha256) throws IOException;
+
+    /** Copies {@code count} bytes of the file starting at {@code position} to {@code target}. */
+    void transferTo(String sha256, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * Removes a stored file. Only for content that no resume refers to, such as
+     * an upload rejected after it was stored: identical bytes are always
+     * rejected the same way, so no other upload can be using the file.
+     */
+    void delete(String sha256) throws IOException;
+
+    /** The file on the local filesystem, when the store has one the servlet container can send directly. */
+    default Optional<Path> localFile(String sha256) {
+        return Optional.empty();
+    }
+}
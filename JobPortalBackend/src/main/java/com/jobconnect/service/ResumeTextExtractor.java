@@ -0,0 +1,201 @@
+package com.jobconnect.service;
+
+import com.jobconnect.entity.Resume;
+import com.jobconnect.entity.ResumeText;
+import com.jobconnect.event.ApplicantProfileChangedEvent;
+import com.jobconnect.event.ResumeUploadedEvent;
+import com.jobconnect.repository.ResumeRepository;
+import com.jobconnect.repository.ResumeTextRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Extracts plain text from uploaded resumes for the talent index, off the
+ * request thread. Committed uploads are queued to a small bounded pool; when
+ * the queue is full the uploading thread does the extraction itself, which
+ * slows uploads down instead of dropping work. PDF text comes from PDFBox and
+ * DOCX text from the document's XML; legacy DOC files are stored with empty
+ * text so an older resume's text does not outlive it.
+ */
+@Component
+public class ResumeTextExtractor {
+
+    private static final String PDF = "application/pdf";
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String DOCX_BODY = "word/document.xml";
+    private static final int MAX_PDF_PAGES = 20;
+    private static final String EXTRACTIONS_METRIC = "jobconnect.talent.resume-extractions";
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        // Resumes are untrusted input: no DTDs, no external entities
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final ResumeStorage resumeStorage;
+    private final ResumeRepository resumeRepository;
+    private final ResumeTextRepository resumeTextRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final int maxTextChars;
+    private final Counter extracted;
+    private final Counter unsupported;
+    private final Counter failed;
+
+    public ResumeTextExtractor(
+            ResumeStorage resumeStorage,
+            ResumeRepository resumeRepository,
+            ResumeTextRepository resumeTextRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${jobconnect.talent.extraction-threads:2}") int threads,
+            @Value("${jobconnect.talent.extraction-queue:1000}") int queueCapacity,
+            @Value("${jobconnect.talent.max-text-chars:100000}") int maxTextChars) {
+        this.resumeStorage = resumeStorage;
+        this.resumeRepository = resumeRepository;
+        this.resumeTextRepository = resumeTextRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxTextChars = maxTextChars;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "resume-text-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.extracted = outcome(meterRegistry, "extracted");
+        this.unsupported = outcome(meterRegistry, "unsupported");
+        this.failed = outcome(meterRegistry, "failed");
+        Gauge.builder("jobconnect.talent.resume-extraction-queue", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeUploaded(ResumeUploadedEvent event) {
+        executor.execute(() -> extract(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void extract(ResumeUploadedEvent event) {
+        String text;
+        try (InputStream in = resumeStorage.open(event.getSha256())) {
+            text = switch (event.getContentType()) {
+                case PDF -> pdfText(in);
+                case DOCX -> docxText(in);
+                default -> null;
+            };
+        } catch (IOException | RuntimeException e) {
+            // Corrupt or encrypted files keep whatever text the index already has
+            failed.increment();
+            return;
+        }
+
+        // Extractions can finish out of order; only the applicant's current resume is kept
+        Resume latest = resumeRepository.findFirstByApplicantIdOrderByUploadedAtDescIdDesc(event.getApplicantId())
+            .orElse(null);
+        if (latest == null || !latest.getId().equals(event.getResumeId())) {
+            return;
+        }
+
+        ResumeText resumeText = new ResumeText();
+        resumeText.setApplicantId(event.getApplicantId());
+        resumeText.setResumeId(event.getResumeId());
+        resumeText.setText(text != null ? text : "");
+        resumeText.setExtractedAt(LocalDateTime.now());
+        resumeTextRepository.save(resumeText);
+        (text != null ? extracted : unsupported).increment();
+
+        eventPublisher.publishEvent(new ApplicantProfileChangedEvent(event.getApplicantId()));
+    }
+
+    private String pdfText(InputStream in) throws IOException {
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(in))) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(MAX_PDF_PAGES);
+            return truncate(stripper.getText(document));
+        }
+    }
+
+    private String docxText(InputStream in) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            if (DOCX_BODY.equals(entry.getName())) {
+                return wordXmlText(zip);
+            }
+        }
+        return "";
+    }
+
+    /** The text runs ({@code <w:t>}) of a WordprocessingML body, one line per paragraph. */
+    private String wordXmlText(InputStream xml) throws IOException {
+        StringBuilder text = new StringBuilder();
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+            boolean inTextRun = false;
+            // Stops at the size cap, so an oversized or zip-bombed body is never fully inflated
+            while (reader.hasNext() && text.length() < maxTextChars) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> inTextRun = "t".equals(reader.getLocalName());
+                    case XMLStreamConstants.CHARACTERS -> {
+                        if (inTextRun) {
+                            text.append(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        inTextRun = false;
+                        switch (reader.getLocalName()) {
+                            case "p", "br" -> text.append('\n');
+                            case "tab" -> text.append(' ');
+                            default -> {
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Unreadable DOCX body", e);
+        }
+        return truncate(text.toString());
+    }
+
+    private String truncate(String text) {
+        return text.length() > maxTextChars ? text.substring(0, maxTextChars) : text;
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(EXTRACTIONS_METRIC).tag("outcome", outcome).register(meterRegistry);
+    }
+}
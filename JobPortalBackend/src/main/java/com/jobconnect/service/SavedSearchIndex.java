@@ -0,0 +1,285 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.JobSearchRequest;
+import com.jobconnect.entity.Job;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reverse index of alert-enabled saved searches, so a new job is matched
+ * against the searches that could accept it instead of every stored search.
+ *
+ * <p>Each search is filed under one key taken from its most selective
+ * criterion. Text criteria ({@code keyword}, {@code skills},
+ * {@code location}, {@code industry}) use substring matching in
+ * {@code JobService.searchJobs}, so they are keyed by a trigram of the
+ * criterion: any job containing the criterion contains all of its trigrams.
+ * Of the candidate trigrams the one with the fewest searches already filed
+ * under it is chosen. Searches with only exact-match filters are keyed by
+ * one of those, and the few with neither go in a bucket checked for every
+ * job. A job enumerates its own keys, collects the searches filed under
+ * them, and verifies each candidate with the same predicates the search
+ * query uses.
+ */
+@Component
+public class SavedSearchIndex {
+
+    private static final String MATCH_ALL = "*";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, CompiledSearch>> searchesByKey = new HashMap<>();
+    private final Map<Long, String> keyBySearchId = new HashMap<>();
+
+    /** A saved search with its criteria normalized for matching. */
+    public static final class CompiledSearch {
+
+        final long id;
+        final long applicantId;
+        final String name;
+        final String keyword;
+        final String location;
+        final String jobType;
+        final String workMode;
+        final String experienceLevel;
+        final Integer minExperience;
+        final Integer maxExperience;
+        final String skills;
+        final String industry;
+
+        public CompiledSearch(long id, long applicantId, String name, JobSearchRequest criteria) {
+            this.id = id;
+            this.applicantId = applicantId;
+            this.name = name;
+            this.keyword = lowerOrNull(criteria.getKeyword());
+            this.location = lowerOrNull(criteria.getLocation());
+            this.jobType = emptyToNull(criteria.getJobType());
+            this.workMode = emptyToNull(criteria.getWorkMode());
+            this.experienceLevel = emptyToNull(criteria.getExperienceLevel());
+            this.minExperience = criteria.getMinExperience();
+            this.maxExperience = criteria.getMaxExperience();
+            this.skills = lowerOrNull(criteria.getSkills());
+            this.industry = lowerOrNull(criteria.getIndustry());
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public long getApplicantId() {
+            return applicantId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Same predicates as {@code JobService.buildJobSpecification}. */
+        boolean matches(Job job) {
+            if (!"ACTIVE".equals(job.getStatus())) {
+                return false;
+            }
+            if (keyword != null && !(contains(job.getTitle(), keyword)
+                    || contains(job.getDescription(), keyword)
+                    || contains(job.getCompany(), keyword))) {
+                return false;
+            }
+            if (location != null && !contains(job.getLocation(), location)) {
+                return false;
+            }
+            if (jobType != null && !jobType.equals(job.getJobType())) {
+                return false;
+            }
+            if (workMode != null && !workMode.equals(job.getWorkMode())) {
+                return false;
+            }
+            if (experienceLevel != null && !experienceLevel.equals(job.getExperienceLevel())) {
+                return false;
+            }
+            if (minExperience != null && (job.getMinExperience() == null || job.getMinExperience() < minExperience)) {
+                return false;
+            }
+            if (maxExperience != null && (job.getMaxExperience() == null || job.getMaxExperience() > maxExperience)) {
+                return false;
+            }
+            if (skills != null && !contains(job.getSkills(), skills)) {
+                return false;
+            }
+            return industry == null || contains(job.getIndustry(), industry);
+        }
+
+        /** Every key the search could be filed under, most selective kinds first. */
+        List<List<String>> candidateKeys() {
+            List<List<String>> keys = new ArrayList<>();
+            addTrigramKeys(keys, "k:", keyword);
+            addTrigramKeys(keys, "s:", skills);
+            addTrigramKeys(keys, "l:", location);
+            addTrigramKeys(keys, "i:", industry);
+            if (experienceLevel != null) {
+                keys.add(List.of("e:" + experienceLevel));
+            }
+            if (jobType != null) {
+                keys.add(List.of("t:" + jobType));
+            }
+            if (workMode != null) {
+                keys.add(List.of("w:" + workMode));
+            }
+            return keys;
+        }
+
+        private static void addTrigramKeys(List<List<String>> keys, String prefix, String text) {
+            if (text == null || text.length() < 3) {
+                return;
+            }
+            Set<String> trigrams = new HashSet<>();
+            trigrams(text, trigram -> trigrams.add(prefix + trigram));
+            keys.add(new ArrayList<>(trigrams));
+        }
+    }
+
+    public void put(CompiledSearch search) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(search.id);
+            String key = chooseKey(search);
+            searchesByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(search.id, search);
+            keyBySearchId.put(search.id, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long searchId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            searchesByKey.clear();
+            keyBySearchId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keyBySearchId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The saved searches {@code job} satisfies. */
+    public List<CompiledSearch> match(Job job) {
+        Set<String> keys = new HashSet<>();
+        keys.add(MATCH_ALL);
+        trigrams(lower(job.getTitle()), trigram -> keys.add("k:" + trigram));
+        trigrams(lower(job.getDescription()), trigram -> keys.add("k:" + trigram));
+        trigrams(lower(job.getCompany()), trigram -> keys.add("k:" + trigram));
+        trigrams(lower(job.getSkills()), trigram -> keys.add("s:" + trigram));
+        trigrams(lower(job.getLocation()), trigram -> keys.add("l:" + trigram));
+        trigrams(lower(job.getIndustry()), trigram -> keys.add("i:" + trigram));
+        if (job.getExperienceLevel() != null) {
+            keys.add("e:" + job.getExperienceLevel());
+        }
+        if (job.getJobType() != null) {
+            keys.add("t:" + job.getJobType());
+        }
+        if (job.getWorkMode() != null) {
+            keys.add("w:" + job.getWorkMode());
+        }
+
+        List<CompiledSearch> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String key : keys) {
+                Map<Long, CompiledSearch> searches = searchesByKey.get(key);
+                if (searches == null) {
+                    continue;
+                }
+                // Each search lives under exactly one key, so no de-duplication is needed
+                for (CompiledSearch search : searches.values()) {
+                    if (search.matches(job)) {
+                        matches.add(search);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    private String chooseKey(CompiledSearch search) {
+        List<List<String>> candidates = search.candidateKeys();
+        if (candidates.isEmpty()) {
+            return MATCH_ALL;
+        }
+        // Trigram kinds come first and are far more selective than the enum filters; within
+        // the chosen kind, take the key with the fewest searches so buckets stay short.
+        String best = null;
+        int bestSize = Integer.MAX_VALUE;
+        for (String key : candidates.get(0)) {
+            Map<Long, CompiledSearch> bucket = searchesByKey.get(key);
+            int size = bucket == null ? 0 : bucket.size();
+            if (size < bestSize) {
+                best = key;
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+
+    private void removeLocked(long searchId) {
+        String key = keyBySearchId.remove(searchId);
+        if (key == null) {
+            return;
+        }
+        Map<Long, CompiledSearch> bucket = searchesByKey.get(key);
+        bucket.remove(searchId);
+        if (bucket.isEmpty()) {
+            searchesByKey.remove(key);
+        }
+    }
+
+    private static void trigrams(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            sink.accept(text.substring(i, i + 3));
+        }
+    }
+
+    private static boolean contains(String value, String lowerNeedle) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerNeedle);
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String lowerOrNull(String value) {
+        return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
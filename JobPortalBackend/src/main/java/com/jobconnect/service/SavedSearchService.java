@@ -0,0 +1,210 @@
+package com.jobconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobconnect.dto.JobSearchRequest;
+import com.jobconnect.dto.SavedSearchRequest;
+import com.jobconnect.dto.SavedSearchResponse;
+import com.jobconnect.entity.Job;
+import com.jobconnect.entity.SavedSearch;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import com.jobconnect.repository.SavedSearchRepository;
+import com.jobconnect.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SavedSearchService {
+
+    private static final int INDEX_BATCH_SIZE = 1000;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final ApplicantAccountRepository applicantRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final ChangeEventBus changeEventBus;
+
+    @Value("${jobconnect.saved-searches.max-per-applicant:20}")
+    private int maxPerApplicant;
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getSavedSearches(Long applicantId) {
+        return savedSearchRepository.findByApplicantIdOrderByCreatedAtDesc(applicantId).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request, Long applicantId) {
+        if (savedSearchRepository.countByApplicantId(applicantId) >= maxPerApplicant) {
+            throw new RuntimeException("You can keep at most " + maxPerApplicant + " saved searches");
+        }
+        SavedSearch search = new SavedSearch();
+        search.setApplicant(applicantRepository.findById(applicantId)
+            .orElseThrow(() -> new RuntimeException("Applicant account not found")));
+        search.setApplicantId(applicantId);
+        apply(request, search);
+        SavedSearch saved = savedSearchRepository.save(search);
+        reindexAfterCommit(saved);
+        return toResponse(saved);
+    }
+
+    public SavedSearchResponse updateSavedSearch(Long searchId, SavedSearchRequest request, Long applicantId) {
+        SavedSearch search = requireOwned(searchId, applicantId);
+        apply(request, search);
+        SavedSearch saved = savedSearchRepository.save(search);
+        reindexAfterCommit(saved);
+        return toResponse(saved);
+    }
+
+    public void deleteSavedSearch(Long searchId, Long applicantId) {
+        SavedSearch search = requireOwned(searchId, applicantId);
+        savedSearchRepository.delete(search);
+        TransactionHooks.afterCommit(() -> savedSearchIndex.remove(searchId));
+        changeEventBus.publish(ChangeEvent.Entity.SAVED_SEARCH, searchId, true);
+    }
+
+    @PostConstruct
+    void subscribeToRemoteChanges() {
+        changeEventBus.subscribe(ChangeEvent.Entity.SAVED_SEARCH, this::onRemoteSearchChanged, this::buildIndex);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        savedSearchIndex.clear();
+        long afterId = 0;
+        List<SavedSearch> batch;
+        do {
+            batch = savedSearchRepository.findByAlertsEnabledTrueAndIdGreaterThanOrderById(
+                afterId, PageRequest.of(0, INDEX_BATCH_SIZE));
+            for (SavedSearch search : batch) {
+                savedSearchIndex.put(compile(search));
+                afterId = search.getId();
+            }
+        } while (batch.size() == INDEX_BATCH_SIZE);
+    }
+
+    /** Raises one alert per applicant whose saved searches match a newly posted job. */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() != JobChangedEvent.Type.CREATED) {
+            return;
+        }
+        Job job = event.getJob();
+        Map<Long, SavedSearchIndex.CompiledSearch> firstMatchByApplicant = new LinkedHashMap<>();
+        for (SavedSearchIndex.CompiledSearch search : savedSearchIndex.match(job)) {
+            firstMatchByApplicant.putIfAbsent(search.getApplicantId(), search);
+        }
+        firstMatchByApplicant.forEach((applicantId, search) -> notificationService.createNotification(
+            applicantId,
+            job.getEmployer().getId(),
+            String.format("New job for \"%s\"", search.getName()),
+            String.format("%s at %s in %s matches your saved search \"%s\".",
+                job.getTitle(), job.getCompany(), job.getLocation(), search.getName()),
+            "JOB_ALERT"));
+    }
+
+    private SavedSearch requireOwned(Long searchId, Long applicantId) {
+        SavedSearch search = savedSearchRepository.findById(searchId)
+            .orElseThrow(() -> new RuntimeException("Saved search not found"));
+        if (!search.getApplicantId().equals(applicantId)) {
+            throw new RuntimeException("Not authorized to modify this saved search");
+        }
+        return search;
+    }
+
+    private void apply(SavedSearchRequest request, SavedSearch search) {
+        if (!hasCriteria(request.getCriteria())) {
+            throw new RuntimeException("A saved search needs at least one search criterion");
+        }
+        search.setName(request.getName().trim());
+        search.setCriteria(writeCriteria(request.getCriteria()));
+        if (request.getAlertsEnabled() != null) {
+            search.setAlertsEnabled(request.getAlertsEnabled());
+        }
+    }
+
+    private void onRemoteSearchChanged(ChangeEvent event) {
+        long searchId = event.getEntityId();
+        SavedSearch search = event.isRemoved() ? null : savedSearchRepository.findById(searchId).orElse(null);
+        if (search != null && search.isAlertsEnabled()) {
+            savedSearchIndex.put(compile(search));
+        } else {
+            savedSearchIndex.remove(searchId);
+        }
+    }
+
+    private void reindexAfterCommit(SavedSearch search) {
+        SavedSearchIndex.CompiledSearch compiled = search.isAlertsEnabled() ? compile(search) : null;
+        Long searchId = search.getId();
+        changeEventBus.publish(ChangeEvent.Entity.SAVED_SEARCH, searchId, compiled == null);
+        TransactionHooks.afterCommit(() -> {
+            if (compiled != null) {
+                savedSearchIndex.put(compiled);
+            } else {
+                savedSearchIndex.remove(searchId);
+            }
+        });
+    }
+
+    private SavedSearchIndex.CompiledSearch compile(SavedSearch search) {
+        return new SavedSearchIndex.CompiledSearch(
+            search.getId(), search.getApplicantId(), search.getName(), readCriteria(search.getCriteria()));
+    }
+
+    private static boolean hasCriteria(JobSearchRequest criteria) {
+        return notEmpty(criteria.getKeyword()) || notEmpty(criteria.getLocation()) || notEmpty(criteria.getJobType())
+            || notEmpty(criteria.getWorkMode()) || notEmpty(criteria.getExperienceLevel())
+            || criteria.getMinExperience() != null || criteria.getMaxExperience() != null
+            || notEmpty(criteria.getSkills()) || notEmpty(criteria.getIndustry());
+    }
+
+    private static boolean notEmpty(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private String writeCriteria(JobSearchRequest criteria) {
+        try {
+            return objectMapper.writeValueAsString(criteria);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Invalid search criteria");
+        }
+    }
+
+    private JobSearchRequest readCriteria(String criteria) {
+        try {
+            return objectMapper.readValue(criteria, JobSearchRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Stored search criteria could not be read", e);
+        }
+    }
+
+    private SavedSearchResponse toResponse(SavedSearch search) {
+        return SavedSearchResponse.builder()
+            .id(search.getId())
+            .name(search.getName())
+            .criteria(readCriteria(search.getCriteria()))
+            .alertsEnabled(search.isAlertsEnabled())
+            .createdAt(search.getCreatedAt())
+            .updatedAt(search.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,475 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.TalentIndexRow;
+import com.jobconnect.dto.TalentSearchRequest;
+import com.jobconnect.event.ApplicantProfileChangedEvent;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import com.jobconnect.util.TermAnalyzer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory search index of applicant profiles for employers' talent search.
+ *
+ * <p>Each applicant is one document with two kinds of postings: boolean skill
+ * postings ({@code "skill:spring boot"} and {@code "skill:spring"}) that
+ * answer required, any-of and excluded skill filters by bitset algebra, and
+ * weighted term-frequency postings over skills, experience, education, bio
+ * and extracted resume text that rank the matches with BM25. Parsed years of
+ * experience are kept in a column so range filters never touch the database.
+ * Text postings are pruned to each profile's strongest terms to bound memory.
+ *
+ * <p>Committed profile changes are applied incrementally as
+ * {@link ApplicantProfileChangedEvent}s arrive. Replaced profiles leave
+ * tombstoned postings behind that searches skip; the nightly rebuild drops
+ * them and recomputes document frequencies.
+ */
+@Component
+public class TalentIndex {
+
+    static final float SKILL_WEIGHT = 3f;
+    static final float EXPERIENCE_WEIGHT = 1.5f;
+    static final float TEXT_WEIGHT = 1f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int UNKNOWN_EXPERIENCE = -1;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final ApplicantAccountRepository applicantAccountRepository;
+    private final int maxTermsPerProfile;
+    private final Object rebuildLock = new Object();
+    private volatile Segment segment = new Segment();
+    // Changes that arrive while a rebuild is loading, replayed onto the new segment; guarded by rebuildLock
+    private List<Consumer<Segment>> pendingDuringRebuild;
+
+    public TalentIndex(
+            ApplicantAccountRepository applicantAccountRepository,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.talent.max-terms-per-profile:64}") int maxTermsPerProfile) {
+        this.applicantAccountRepository = applicantAccountRepository;
+        this.maxTermsPerProfile = maxTermsPerProfile;
+        changeEventBus.subscribe(ChangeEvent.Entity.APPLICANT, event -> reindex(event.getEntityId()), this::rebuild);
+    }
+
+    public record ScoredApplicant(long applicantId, double score, int experienceYears) {
+    }
+
+    /** One page of matches, best first, and the number of profiles that matched in total. */
+    public record Hits(List<ScoredApplicant> applicants, long total) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${jobconnect.talent.rebuild-cron:0 45 3 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            long afterId = 0;
+            List<TalentIndexRow> rows;
+            do {
+                rows = applicantAccountRepository.findTalentIndexRows(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (TalentIndexRow row : rows) {
+                    fresh.put(row.getId(), document(row));
+                    afterId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            segment = fresh;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ApplicantProfileChangedEvent event) {
+        reindex(event.getApplicantId());
+    }
+
+    private void reindex(long applicantId) {
+        TalentIndexRow row = applicantAccountRepository.findTalentIndexRow(applicantId).orElse(null);
+        if (row != null) {
+            Document document = document(row);
+            apply(target -> target.put(applicantId, document));
+        } else {
+            apply(target -> target.remove(applicantId));
+        }
+    }
+
+    /**
+     * Applicants matching {@code request}'s skill and experience filters,
+     * ranked by BM25 over its keywords and skills; ties, and searches with
+     * nothing to rank by, go to the most recently registered applicants.
+     */
+    public Hits search(TalentSearchRequest request, int offset, int limit) {
+        return segment.search(Query.of(request), offset, limit);
+    }
+
+    public int size() {
+        return segment.size();
+    }
+
+    private void apply(Consumer<Segment> change) {
+        synchronized (rebuildLock) {
+            change.accept(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private Document document(TalentIndexRow row) {
+        Set<String> skills = new LinkedHashSet<>();
+        Map<String, Float> frequencies = new HashMap<>();
+        TermAnalyzer.skills(row.getSkills(), skills::add, word -> {
+            skills.add("skill:" + word);
+            frequencies.merge(word, SKILL_WEIGHT, Float::sum);
+        });
+        TermAnalyzer.words(row.getExperience(), term -> frequencies.merge(term, EXPERIENCE_WEIGHT, Float::sum));
+        TermAnalyzer.words(row.getEducation(), term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+        TermAnalyzer.words(row.getBio(), term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+        TermAnalyzer.words(row.getResumeText(), term -> frequencies.merge(term, TEXT_WEIGHT, Float::sum));
+
+        // Length is taken before pruning so long resumes are still normalized as long documents
+        float length = 0;
+        for (float frequency : frequencies.values()) {
+            length += frequency;
+        }
+        List<Map.Entry<String, Float>> entries = new ArrayList<>(frequencies.entrySet());
+        if (entries.size() > maxTermsPerProfile) {
+            entries.sort(Map.Entry.<String, Float>comparingByValue().reversed());
+            entries = entries.subList(0, maxTermsPerProfile);
+        }
+        String[] terms = new String[entries.size()];
+        float[] weights = new float[entries.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = entries.get(i).getKey();
+            weights[i] = entries.get(i).getValue();
+        }
+        return new Document(skills.toArray(String[]::new), terms, weights, length,
+            CandidateRanker.experienceYears(row.getExperience()));
+    }
+
+    private record Document(String[] skills, String[] terms, float[] weights, float length, int experienceYears) {
+
+        boolean isEmpty() {
+            return skills.length == 0 && terms.length == 0;
+        }
+    }
+
+    /** A search request reduced to index terms. */
+    private record Query(List<String> requiredSkills, List<String> anySkills, List<String> excludedSkills,
+                         List<String> terms, int minExperience, int maxExperience) {
+
+        static Query of(TalentSearchRequest request) {
+            Set<String> terms = new LinkedHashSet<>();
+            TermAnalyzer.words(request.getKeyword(), terms::add);
+            List<String> required = skillTerms(request.getSkills(), terms);
+            List<String> any = skillTerms(request.getAnySkills(), terms);
+            List<String> excluded = skillTerms(request.getExcludeSkills(), new LinkedHashSet<>());
+            return new Query(required, any, excluded, new ArrayList<>(terms),
+                request.getMinExperience() != null ? request.getMinExperience() : Integer.MIN_VALUE,
+                request.getMaxExperience() != null ? request.getMaxExperience() : Integer.MAX_VALUE);
+        }
+
+        // Wanted skills also rank: a candidate whose resume keeps mentioning them scores higher
+        private static List<String> skillTerms(String skills, Set<String> rankingTerms) {
+            Set<String> phrases = new LinkedHashSet<>();
+            TermAnalyzer.skills(skills, phrases::add, rankingTerms::add);
+            return new ArrayList<>(phrases);
+        }
+
+        boolean filtersExperience() {
+            return minExperience != Integer.MIN_VALUE || maxExperience != Integer.MAX_VALUE;
+        }
+    }
+
+    /** Doc numbers ascending, so a posting list can be skipped through in doc order. */
+    private static final class PostingList {
+
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+        int documentFrequency;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+            documentFrequency++;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bits.set(docs[i]);
+            }
+            return bits;
+        }
+    }
+
+    private static final class Cursor {
+
+        final PostingList postings;
+        final double idf;
+        int position;
+
+        Cursor(PostingList postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+
+        /** Term frequency in {@code doc}, or 0; targets must not decrease between calls. */
+        float frequencyAt(int doc) {
+            if (position < postings.size && postings.docs[position] < doc) {
+                int found = Arrays.binarySearch(postings.docs, position, postings.size, doc);
+                position = found >= 0 ? found : -found - 1;
+            }
+            return position < postings.size && postings.docs[position] == doc ? postings.weights[position] : 0;
+        }
+    }
+
+    /**
+     * One generation of the index. Doc numbers are handed out in increasing
+     * order and never reused, so appending keeps every posting list sorted.
+     */
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, PostingList> skillPostings = new HashMap<>();
+        private final Map<String, PostingList> termPostings = new HashMap<>();
+        private final Map<Long, Integer> docByApplicantId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] applicantIdByDoc = new long[1024];
+        private int[] experienceByDoc = new int[1024];
+        private float[] lengthByDoc = new float[1024];
+        private double totalLength;
+        private int nextDoc;
+
+        void put(long applicantId, Document document) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(applicantId);
+                if (document.isEmpty()) {
+                    return;
+                }
+                int doc = nextDoc++;
+                if (doc == applicantIdByDoc.length) {
+                    applicantIdByDoc = Arrays.copyOf(applicantIdByDoc, doc * 2);
+                    experienceByDoc = Arrays.copyOf(experienceByDoc, doc * 2);
+                    lengthByDoc = Arrays.copyOf(lengthByDoc, doc * 2);
+                }
+                applicantIdByDoc[doc] = applicantId;
+                experienceByDoc[doc] = document.experienceYears();
+                lengthByDoc[doc] = document.length();
+                totalLength += document.length();
+                docByApplicantId.put(applicantId, doc);
+                for (String skill : document.skills()) {
+                    skillPostings.computeIfAbsent(skill, term -> new PostingList()).add(doc, 1);
+                }
+                for (int i = 0; i < document.terms().length; i++) {
+                    termPostings.computeIfAbsent(document.terms()[i], term -> new PostingList())
+                        .add(doc, document.weights()[i]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long applicantId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(applicantId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(long applicantId) {
+            Integer doc = docByApplicantId.remove(applicantId);
+            if (doc != null) {
+                deleted.set(doc);
+                totalLength -= lengthByDoc[doc];
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return docByApplicantId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Hits search(Query query, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                int liveDocs = docByApplicantId.size();
+                BitSet candidates = liveDocs == 0 ? null : candidates(query);
+                if (candidates == null || candidates.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+
+                Cursor[] cursors = new Cursor[query.terms().size()];
+                int count = 0;
+                for (String term : query.terms()) {
+                    PostingList postings = termPostings.get(term);
+                    if (postings != null && postings.size > 0) {
+                        // Tombstones inflate document frequencies until the next rebuild
+                        double df = Math.min(postings.documentFrequency, liveDocs);
+                        cursors[count++] = new Cursor(postings, Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5)));
+                    }
+                }
+                double averageLength = Math.max(totalLength / liveDocs, 1);
+
+                int window = offset + limit;
+                // Worst first, so the head is the one to evict; later applicants win ties
+                Comparator<ScoredApplicant> order = Comparator.comparingDouble(ScoredApplicant::score)
+                    .thenComparingLong(ScoredApplicant::applicantId);
+                PriorityQueue<ScoredApplicant> top = new PriorityQueue<>(window + 1, order);
+                long total = 0;
+                for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                    int years = experienceByDoc[doc];
+                    if (query.filtersExperience() && (years == UNKNOWN_EXPERIENCE
+                            || years < query.minExperience() || years > query.maxExperience())) {
+                        continue;
+                    }
+                    total++;
+
+                    double norm = K1 * (1 - B + B * lengthByDoc[doc] / averageLength);
+                    double score = 0;
+                    for (int i = 0; i < count; i++) {
+                        float frequency = cursors[i].frequencyAt(doc);
+                        if (frequency > 0) {
+                            score += cursors[i].idf * frequency * (K1 + 1) / (frequency + norm);
+                        }
+                    }
+
+                    ScoredApplicant applicant = new ScoredApplicant(applicantIdByDoc[doc], score, years);
+                    if (top.size() < window) {
+                        top.add(applicant);
+                    } else if (order.compare(applicant, top.peek()) > 0) {
+                        top.poll();
+                        top.add(applicant);
+                    }
+                }
+
+                List<ScoredApplicant> ranked = new ArrayList<>(top.size());
+                while (!top.isEmpty()) {
+                    ranked.add(top.poll());
+                }
+                Collections.reverse(ranked);
+                List<ScoredApplicant> page = offset >= ranked.size()
+                    ? List.of()
+                    : ranked.subList(offset, Math.min(ranked.size(), window));
+                return new Hits(page, total);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /** Live docs passing the skill filters, or null when none can; all live docs when there are no filters. */
+        private BitSet candidates(Query query) {
+            BitSet candidates = null;
+            // Smallest posting list first, so the running intersection starts small
+            List<PostingList> required = new ArrayList<>();
+            for (String skill : query.requiredSkills()) {
+                PostingList postings = skillPostings.get(skill);
+                if (postings == null) {
+                    return null;
+                }
+                required.add(postings);
+            }
+            required.sort(Comparator.comparingInt(postings -> postings.size));
+            for (PostingList postings : required) {
+                BitSet bits = postings.toBitSet();
+                if (candidates == null) {
+                    candidates = bits;
+                } else {
+                    candidates.and(bits);
+                }
+            }
+
+            if (!query.anySkills().isEmpty()) {
+                BitSet any = new BitSet();
+                for (String skill : query.anySkills()) {
+                    PostingList postings = skillPostings.get(skill);
+                    if (postings != null) {
+                        any.or(postings.toBitSet());
+                    }
+                }
+                if (candidates == null) {
+                    candidates = any;
+                } else {
+                    candidates.and(any);
+                }
+            }
+
+            if (candidates == null && !query.terms().isEmpty()) {
+                // Keyword-only search: any profile containing at least one of the words
+                candidates = new BitSet();
+                for (String term : query.terms()) {
+                    PostingList postings = termPostings.get(term);
+                    if (postings != null) {
+                        candidates.or(postings.toBitSet());
+                    }
+                }
+            }
+            if (candidates == null) {
+                candidates = new BitSet(nextDoc);
+                candidates.set(0, nextDoc);
+            }
+
+            for (String skill : query.excludedSkills()) {
+                PostingList postings = skillPostings.get(skill);
+                if (postings != null) {
+                    candidates.andNot(postings.toBitSet());
+                }
+            }
+            candidates.andNot(deleted);
+            return candidates;
+        }
+    }
+}
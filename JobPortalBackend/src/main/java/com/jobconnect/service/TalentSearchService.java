@@ -0,0 +1,77 @@
+package com.jobconnect.service;
+
+import com.jobconnect.dto.TalentSearchRequest;
+import com.jobconnect.dto.TalentSearchResult;
+import com.jobconnect.entity.ApplicantAccount;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Employer-facing talent search. Matching and ranking happen in
+ * {@link TalentIndex}; only the profiles on the requested page are loaded,
+ * by primary key.
+ */
+@Service
+@RequiredArgsConstructor
+public class TalentSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    // Deep pages would need an ever larger top-K heap; employers refine the query instead
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    private final TalentIndex talentIndex;
+    private final ApplicantAccountRepository applicantAccountRepository;
+
+    public Page<TalentSearchResult> search(TalentSearchRequest request) {
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : 20;
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new RuntimeException("Only the first " + MAX_RESULT_WINDOW + " results can be paged through");
+        }
+        if (request.getMinExperience() != null && request.getMaxExperience() != null
+                && request.getMinExperience() > request.getMaxExperience()) {
+            throw new RuntimeException("minExperience cannot be greater than maxExperience");
+        }
+
+        TalentIndex.Hits hits = talentIndex.search(request, page * size, size);
+        List<Long> ids = hits.applicants().stream().map(TalentIndex.ScoredApplicant::applicantId).toList();
+        Map<Long, ApplicantAccount> accounts = new HashMap<>();
+        for (ApplicantAccount account : applicantAccountRepository.findAllById(ids)) {
+            accounts.put(account.getId(), account);
+        }
+
+        List<TalentSearchResult> results = new ArrayList<>(ids.size());
+        for (TalentIndex.ScoredApplicant hit : hits.applicants()) {
+            ApplicantAccount account = accounts.get(hit.applicantId());
+            // Skips an applicant deleted since the index last heard about them
+            if (account != null) {
+                results.add(toResult(account, hit));
+            }
+        }
+        return new PageImpl<>(results, PageRequest.of(page, size), hits.total());
+    }
+
+    private static TalentSearchResult toResult(ApplicantAccount account, TalentIndex.ScoredApplicant hit) {
+        return TalentSearchResult.builder()
+            .applicantId(account.getId())
+            .name(account.getFullName())
+            .skills(account.getSkills())
+            .experience(account.getExperience())
+            .experienceYears(hit.experienceYears() >= 0 ? hit.experienceYears() : null)
+            .education(account.getEducation())
+            .bio(account.getBio())
+            .score(Math.round(hit.score() * 100) / 100.0)
+            .build();
+    }
+}
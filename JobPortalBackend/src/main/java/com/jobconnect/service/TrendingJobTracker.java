@@ -0,0 +1,209 @@
+package com.jobconnect.service;
+
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.ChangeEventBus;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.util.ConcurrentLongMap;
+import com.jobconnect.util.CountMinSketch;
+import com.jobconnect.util.SpaceSaving;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tracks which jobs are getting the most views, saves and applications
+ * right now, entirely in memory.
+ *
+ * <p>Time is cut into buckets of {@code jobconnect.trending.bucket}, and a
+ * ring holds the buckets covering {@code jobconnect.trending.window}. Each
+ * bucket has a {@link CountMinSketch} of weighted signals per job and a
+ * {@link SpaceSaving} summary of that bucket's heaviest jobs. Every few
+ * seconds the jobs tracked by any live bucket are scored by their sketch
+ * estimates, each bucket's weight halving every
+ * {@code jobconnect.trending.half-life} of age, and the best {@value #MAX_LIMIT}
+ * become the snapshot that requests read.
+ * Closed and deleted jobs are left out until they are reopened.
+ *
+ * <p>Recording a signal takes no lock: it adds to the sketch and to a
+ * per-job {@link LongAdder}. The refresh feeds those adders into the
+ * summaries, whose lock is only ever taken on the refresh thread.
+ */
+@Component
+public class TrendingJobTracker {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+    // Four times the snapshot size, so jobs near the cut-off are still tracked
+    private static final int SUMMARY_CAPACITY = 4 * MAX_LIMIT;
+
+    public enum Signal {
+        VIEW(1),
+        SAVE(3),
+        APPLY(5);
+
+        private final int weight;
+
+        Signal(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final long bucketMillis;
+    private final long windowMillis;
+    private final double halfLifeMillis;
+    private final AtomicReferenceArray<Bucket> ring;
+    // Jobs that stopped accepting applications, by when they did
+    private final Map<Long, Long> inactive = new ConcurrentHashMap<>();
+    private volatile long[] trending = new long[0];
+
+    public TrendingJobTracker(
+            MeterRegistry meterRegistry,
+            ChangeEventBus changeEventBus,
+            @Value("${jobconnect.trending.window:PT24H}") Duration window,
+            @Value("${jobconnect.trending.bucket:PT1H}") Duration bucket,
+            @Value("${jobconnect.trending.half-life:PT6H}") Duration halfLife) {
+        if (bucket.isZero() || bucket.isNegative() || window.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("jobconnect.trending.window must be at least one bucket long");
+        }
+        this.bucketMillis = bucket.toMillis();
+        this.windowMillis = window.toMillis();
+        this.halfLifeMillis = halfLife.toMillis();
+        this.ring = new AtomicReferenceArray<>((int) ((windowMillis + bucketMillis - 1) / bucketMillis));
+        Gauge.builder("jobconnect.trending.jobs", this, tracker -> tracker.trending.length)
+            .register(meterRegistry);
+        // Nothing to resync: jobs are checked for being active again when the snapshot is loaded
+        changeEventBus.subscribe(ChangeEvent.Entity.JOB,
+            event -> setActive(event.getEntityId(), !event.isRemoved()), () -> { });
+    }
+
+    private static final class Bucket {
+
+        final long epoch;
+        final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        final SpaceSaving heaviest = new SpaceSaving(SUMMARY_CAPACITY);
+        // Weight recorded since the last refresh; dropped with the bucket
+        final ConcurrentLongMap<LongAdder> pending = new ConcurrentLongMap<>(SUMMARY_CAPACITY);
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    public void record(long jobId, Signal signal) {
+        if (inactive.containsKey(jobId)) {
+            return;
+        }
+        Bucket bucket = currentBucket(System.currentTimeMillis() / bucketMillis);
+        bucket.sketch.add(jobId, signal.weight);
+        bucket.pending.computeIfAbsent(jobId, id -> new LongAdder()).add(signal.weight);
+    }
+
+    /** Up to {@code limit} trending job ids, hottest first, from the last snapshot. */
+    public List<Long> getTrendingJobIds(int limit) {
+        long[] snapshot = trending;
+        List<Long> jobIds = new ArrayList<>(Math.min(limit, snapshot.length));
+        for (int i = 0; i < snapshot.length && jobIds.size() < limit; i++) {
+            jobIds.add(snapshot[i]);
+        }
+        return jobIds;
+    }
+
+    @Scheduled(fixedDelayString = "${jobconnect.trending.refresh-interval:PT30S}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        long currentEpoch = now / bucketMillis;
+        inactive.values().removeIf(since -> now - since > windowMillis);
+
+        Map<Bucket, Map<Long, Long>> live = new HashMap<>();
+        Set<Long> candidates = new HashSet<>();
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && currentEpoch - bucket.epoch < ring.length()) {
+                bucket.pending.forEach((jobId, weight) -> {
+                    long added = weight.sumThenReset();
+                    if (added > 0) {
+                        bucket.heaviest.offer(jobId, added);
+                    }
+                });
+                Map<Long, Long> counts = bucket.heaviest.counts();
+                live.put(bucket, counts);
+                candidates.addAll(counts.keySet());
+            }
+        }
+
+        List<Map.Entry<Long, Double>> scored = new ArrayList<>(candidates.size());
+        for (Long jobId : candidates) {
+            if (inactive.containsKey(jobId)) {
+                continue;
+            }
+            double score = 0;
+            for (Map.Entry<Bucket, Map<Long, Long>> entry : live.entrySet()) {
+                Bucket bucket = entry.getKey();
+                // Both overestimate, so the smaller is the better bound
+                long estimate = Math.min(bucket.sketch.estimate(jobId),
+                    entry.getValue().getOrDefault(jobId, Long.MAX_VALUE));
+                if (estimate > 0) {
+                    // Buckets are aged from their midpoint, so the current one is not favoured twice
+                    long age = Math.max(now - (bucket.epoch * bucketMillis + bucketMillis / 2), 0);
+                    score += estimate * Math.pow(0.5, age / halfLifeMillis);
+                }
+            }
+            scored.add(Map.entry(jobId, score));
+        }
+        scored.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+
+        long[] next = new long[Math.min(MAX_LIMIT, scored.size())];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = scored.get(i).getKey();
+        }
+        trending = next;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        setActive(event.getJobId(), event.isActive());
+    }
+
+    private void setActive(long jobId, boolean active) {
+        if (active) {
+            inactive.remove(jobId);
+            return;
+        }
+        inactive.put(jobId, System.currentTimeMillis());
+        long[] snapshot = trending;
+        if (Arrays.stream(snapshot).anyMatch(trendingId -> trendingId == jobId)) {
+            trending = Arrays.stream(snapshot).filter(trendingId -> trendingId != jobId).toArray();
+        }
+    }
+
+    private Bucket currentBucket(long epoch) {
+        int slot = (int) (epoch % ring.length());
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            // A stale clock read never replaces a newer bucket
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobconnect.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Bloom filter over 64-bit hashes, sized for an expected number of items and
+ * false-positive rate. {@link #mightContain(long)} never misses an added
+ * item; a positive only means "maybe", so callers confirm it elsewhere.
+ *
+ * <p>Bits live in an {@link AtomicLongArray}: adds set bits with an atomic
+ * OR and lookups are plain volatile reads, so neither locks or allocates.
+ * Items cannot be removed; build a new filter to drop them.
+ */
+public final class BloomFilter {
+
+    private static final LongBinaryOperator OR = (word, bits) -> word | bits;
+
+    private final AtomicLongArray words;
+    private final long mask;
+    private final int hashes;
+
+    public BloomFilter(int expectedItems, double falsePositiveRate) {
+        int items = Math.max(expectedItems, 1);
+        double optimalBits = -items * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        // A power of two, so a bit index is a mask instead of a division
+        long bits = Math.max(Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1, Long.SIZE);
+        if (bits > (1L << 31)) {
+            throw new IllegalArgumentException("Bloom filter too large: " + bits + " bits");
+        }
+        this.words = new AtomicLongArray((int) (bits / Long.SIZE));
+        this.mask = bits - 1;
+        this.hashes = Math.max((int) Math.round((double) bits / items * Math.log(2)), 1);
+    }
+
+    public void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + (long) i * h2) & mask;
+            words.getAndAccumulate((int) (bit >>> 6), 1L << bit, OR);
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + (long) i * h2) & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** A 64-bit hash of {@code value}'s characters (FNV-1a, then mixed), computed without allocating. */
+    public static long hash(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return HyperLogLog.hash(hash);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobconnect.util;
+
+/**
+ * A single byte range from an HTTP {@code Range} header, with inclusive
+ * bounds already clamped to the length of the representation.
+ */
+public record ByteRange(long start, long end) {
+
+    /** Returned for a syntactically valid range that lies entirely past the end; answer with 416. */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Parses {@code bytes=a-b}, {@code bytes=a-} and {@code bytes=-n}. Returns
+     * null, meaning "send the whole representation", for a missing or
+     * malformed header and for multiple ranges, which this server does not
+     * combine into multipart responses.
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return suffix == 0 ? UNSATISFIABLE : null;
+                }
+                return size == 0 ? UNSATISFIABLE : new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
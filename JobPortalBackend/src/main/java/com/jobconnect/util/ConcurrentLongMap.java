@@ -0,0 +1,144 @@
+package com.jobconnect.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Open-addressing hash map from non-zero {@code long} keys to values, for
+ * hot paths that look up per-id state on every request. Lookups are
+ * lock-free and never box the key; inserts take a lock and are expected to
+ * be rare next to lookups. Entries are never removed, though {@link #put}
+ * can replace a value with a marker the owner ignores; owners drop the whole
+ * map when its contents expire.
+ *
+ * <p>An insert publishes the value before the key, so a reader that finds
+ * the key also finds its value. A resize builds a new table and swaps it in;
+ * readers still on the old table see every entry it had.
+ */
+public final class ConcurrentLongMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table;
+    private int size;
+
+    public ConcurrentLongMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    private static final class Table {
+
+        final AtomicLongArray keys;
+        final AtomicReferenceArray<Object> values;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        int slot(long key) {
+            int index = (int) HyperLogLog.hash(key) & mask;
+            while (true) {
+                long current = keys.get(index);
+                if (current == key || current == 0) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        Table current = table;
+        int index = current.slot(key);
+        return current.keys.get(index) == key ? (V) current.values.get(index) : null;
+    }
+
+    public V computeIfAbsent(long key, LongFunction<V> factory) {
+        V value = get(key);
+        return value != null ? value : insert(key, factory);
+    }
+
+    /**
+     * Sets the value for {@code key}, replacing any existing one, and returns
+     * the previous value. A reader racing with the replacement may still get
+     * the previous value.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(long key, V value) {
+        Table current = table;
+        int index = current.slot(key);
+        if (current.keys.get(index) == key) {
+            return (V) current.values.getAndSet(index, value);
+        }
+        insert(key, id -> value);
+        return null;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Calls {@code action} for each entry present when the call started. */
+    @SuppressWarnings("unchecked")
+    public void forEach(Entries<V> action) {
+        Table current = table;
+        for (int i = 0; i <= current.mask; i++) {
+            long key = current.keys.get(i);
+            if (key != 0) {
+                action.accept(key, (V) current.values.get(i));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Entries<V> {
+        void accept(long key, V value);
+    }
+
+    private synchronized V insert(long key, LongFunction<V> factory) {
+        if (key == 0) {
+            throw new IllegalArgumentException("0 is reserved for empty slots");
+        }
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        // Keep the load factor at or below one half so probe runs stay short
+        if ((size + 1) * 2 > table.mask + 1) {
+            table = resized(table);
+        }
+        V value = factory.apply(key);
+        Table current = table;
+        int index = current.slot(key);
+        current.values.set(index, value);
+        current.keys.set(index, key);
+        size++;
+        return value;
+    }
+
+    private static Table resized(Table old) {
+        Table bigger = new Table((old.mask + 1) * 2);
+        for (int i = 0; i <= old.mask; i++) {
+            long key = old.keys.get(i);
+            if (key != 0) {
+                int index = bigger.slot(key);
+                bigger.values.set(index, old.values.get(i));
+                bigger.keys.set(index, key);
+            }
+        }
+        return bigger;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
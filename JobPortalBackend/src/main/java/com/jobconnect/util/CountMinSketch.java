@@ -0,0 +1,56 @@
+package com.jobconnect.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch over long keys: {@code depth} rows of {@code width}
+ * counters, each key adding its weight to one counter per row. An estimate
+ * is the smallest of the key's counters, so it never undercounts and
+ * overcounts by at most about {@code e / width} of the total weight in
+ * {@code 1 - e^-depth} of lookups.
+ *
+ * <p>Counters are atomic, so any number of threads can add without locking.
+ * Row indexes come from two halves of one {@link HyperLogLog#hash(long)}
+ * (Kirsch-Mitzenmacher), so a key is hashed once per call.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /** {@code width} is rounded up to a power of two. */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("depth and width must be positive");
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.depth = depth;
+        this.mask = rowWidth - 1;
+        this.counters = new AtomicLongArray(depth * rowWidth);
+    }
+
+    public void add(long key, long weight) {
+        long hash = HyperLogLog.hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(index(row, h1 + row * h2), weight);
+        }
+    }
+
+    public long estimate(long key) {
+        long hash = HyperLogLog.hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1 + row * h2)));
+        }
+        return estimate;
+    }
+
+    private int index(int row, int hash) {
+        return row * (mask + 1) + (hash & mask);
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobconnect.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 style CSV one record at a time, so callers never hold more
+ * than the current record in memory. Quoted fields may contain commas,
+ * doubled quotes and line breaks. Records longer than {@code maxRecordChars}
+ * are rejected, since a missing closing quote would otherwise swallow the rest
+ * of the input into one field.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private final int maxRecordChars;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = -2;
+    private int previous = -1;
+    private long consumed;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvRecordReader(Reader reader, int maxRecordChars) {
+        this.reader = reader;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * Returns the source line the last record returned by {@link #next()}
+     * started on, counting from 1. Blank lines and line breaks inside quoted
+     * fields are counted.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Returns the next record, or {@code null} once the input is exhausted.
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> record = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+        recordLine = line;
+        long start = consumed;
+
+        while (true) {
+            if (consumed - start > maxRecordChars) {
+                throw new IOException("The record on line " + recordLine + " is longer than "
+                    + maxRecordChars + " characters");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        int c = reader.read();
+        consumed++;
+        // \r\n, a lone \r and a lone \n each end one line
+        if (c == '\r' || (c == '\n' && previous != '\r')) {
+            line++;
+        }
+        previous = c;
+        return c;
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobconnect.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes CSV records, quoting only the fields that need it. Text that starts
+ * with a character a spreadsheet would read as a formula is prefixed with
+ * {@code '} so it opens as plain text.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                writeField("");
+            } else if (value instanceof Number) {
+                // Numbers are written as is, so negative values stay numeric
+                writeField(value.toString());
+            } else {
+                writeField(escapeFormula(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String escapeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@'
+            || first == '\t' || first == '\r';
+        return formula ? "'" + value : value;
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
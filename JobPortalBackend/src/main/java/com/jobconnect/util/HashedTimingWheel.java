@@ -0,0 +1,86 @@
+package com.jobconnect.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel: timers are hashed by deadline tick into a fixed ring
+ * of buckets, so scheduling, rescheduling and cancelling are O(1) and each
+ * advance only touches the buckets for the ticks that passed. Timers more
+ * than one rotation away simply stay in their bucket until their tick comes
+ * round. Keys are unique; scheduling an existing key moves its timer.
+ *
+ * <p>The wheel does not run a thread of its own; the owner calls
+ * {@link #advance(long)} periodically and handles the keys it returns.
+ */
+public final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Map<K, Long>[] buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Map[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new HashMap<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /** Schedules {@code key} to fire at {@code deadlineMillis}; past deadlines fire on the next advance. */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        buckets[(int) (tick & mask)].put(key, tick);
+        deadlineTicks.put(key, tick);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        buckets[(int) (tick & mask)].remove(key);
+        return true;
+    }
+
+    /** Moves the wheel to {@code nowMillis} and removes and returns every timer that is now due. */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        List<K> due = new ArrayList<>();
+        // After a stall longer than one rotation every bucket is visited exactly once
+        long ticks = Math.min(targetTick - currentTick, buckets.length);
+        for (long i = 1; i <= ticks; i++) {
+            Iterator<Map.Entry<K, Long>> timers = buckets[(int) ((currentTick + i) & mask)].entrySet().iterator();
+            while (timers.hasNext()) {
+                Map.Entry<K, Long> timer = timers.next();
+                if (timer.getValue() <= targetTick) {
+                    due.add(timer.getKey());
+                    deadlineTicks.remove(timer.getKey());
+                    timers.remove();
+                }
+            }
+        }
+        currentTick = targetTick;
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobconnect.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public final class HttpCaching {
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} / {@code If-Modified-Since} against the
+     * given validators; pass a null {@code lastModified} when only the ETag
+     * reflects every change. When the client's copy is current the response is
+     * already a 304 carrying the validators and {@code cacheControl}, and the
+     * handler should return {@code null} without building a body.
+     */
+    public static boolean notModified(ServletWebRequest request, String etag, Instant lastModified,
+                                      CacheControl cacheControl) {
+        boolean notModified = lastModified != null
+            ? request.checkNotModified(etag, lastModified.toEpochMilli())
+            : request.checkNotModified(etag);
+        if (!notModified) {
+            return false;
+        }
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return true;
+    }
+
+    public static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime == null ? Instant.EPOCH : dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /** Microsecond timestamp for ETags, matching the precision the database keeps. */
+    public static long toMicros(LocalDateTime dateTime) {
+        Instant instant = toInstant(dateTime);
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    public static Instant latest(LocalDateTime first, LocalDateTime second) {
+        Instant a = toInstant(first);
+        Instant b = toInstant(second);
+        return a.isAfter(b) ? a : b;
+    }
+}
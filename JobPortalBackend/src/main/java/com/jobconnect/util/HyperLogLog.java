@@ -0,0 +1,95 @@
+package com.jobconnect.util;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog distinct-count sketch with 2^10 one-byte registers: 1 KB per
+ * sketch and a standard error of about 3%. Callers pass well-mixed 64-bit
+ * hashes ({@link #hash(long)}). Sketches merge by taking the larger of each
+ * register, so merging is idempotent and the same sketch can be stored or
+ * merged again any number of times.
+ *
+ * <p>{@link #add(long)} is deliberately unsynchronized. A register only
+ * grows, so racing writers can at worst drop one raise, which costs an
+ * estimate a fraction of a viewer and never corrupts the sketch.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 10;
+    public static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.merge(bytes);
+        return sketch;
+    }
+
+    /** Adds a hashed item; true when the sketch changed. */
+    public boolean add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // The guard bit caps the rank at 64 - PRECISION + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    public void merge(byte[] other) {
+        if (other == null) {
+            return;
+        }
+        if (other.length != REGISTERS) {
+            throw new IllegalArgumentException("Expected " + REGISTERS + " registers, got " + other.length);
+        }
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other[i] > registers[i]) {
+                registers[i] = other[i];
+            }
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        merge(other.registers);
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // Linear counting is more accurate while many registers are still empty
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(registers, REGISTERS);
+    }
+
+    /** MurmurHash3's 64-bit finalizer: spreads ids and string hash codes over all 64 bits. */
+    public static long hash(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
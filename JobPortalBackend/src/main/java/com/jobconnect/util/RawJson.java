@@ -0,0 +1,168 @@
+package com.jobconnect.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON value that was serialized ahead of time. When Jackson writes it, the
+ * UTF-8 bytes are copied straight into the generator's output buffer, so a
+ * response can be assembled from cached fragments without walking entities.
+ */
+public final class RawJson implements JsonSerializable {
+
+    private final Utf8Bytes bytes;
+
+    public RawJson(byte[] utf8) {
+        this.bytes = new Utf8Bytes(utf8);
+    }
+
+    public int length() {
+        return bytes.utf8.length;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(bytes);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return bytes.getValue();
+    }
+
+    /**
+     * The unquoted forms are the JSON itself. The quoted forms escape it as
+     * the contents of a JSON string, as when the value is used as a field
+     * name; they are built on first use.
+     */
+    static final class Utf8Bytes implements SerializableString {
+
+        private final byte[] utf8;
+        private String value;
+        private byte[] quotedUtf8;
+        private char[] quotedChars;
+
+        Utf8Bytes(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        @Override
+        public String getValue() {
+            if (value == null) {
+                value = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String text = getValue();
+            if (offset + text.length() > buffer.length) {
+                return -1;
+            }
+            text.getChars(0, text.length(), buffer, offset);
+            return text.length();
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (buffer.remaining() < utf8.length) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            if (quotedChars == null) {
+                quotedChars = JsonStringEncoder.getInstance().quoteAsString(getValue());
+            }
+            return quotedChars;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            if (quotedUtf8 == null) {
+                quotedUtf8 = JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+            }
+            return quotedUtf8;
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            byte[] quoted = asQuotedUTF8();
+            if (offset + quoted.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            char[] quoted = asQuotedChars();
+            if (offset + quoted.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            byte[] quoted = asQuotedUTF8();
+            out.write(quoted);
+            return quoted.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            byte[] quoted = asQuotedUTF8();
+            if (buffer.remaining() < quoted.length) {
+                return -1;
+            }
+            buffer.put(quoted);
+            return quoted.length;
+        }
+    }
+}
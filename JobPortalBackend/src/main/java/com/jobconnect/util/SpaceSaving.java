@@ -0,0 +1,79 @@
+package com.jobconnect.util;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy-hitter summary over long keys, holding at most
+ * {@code capacity} counters. A key that is not tracked takes over the
+ * smallest counter, inheriting its count as the key's error. Every key
+ * whose weight exceeds {@code total / capacity} is guaranteed to be
+ * tracked, and a tracked key's count overestimates its weight by at most
+ * its error.
+ *
+ * <p>Counters are ordered in a tree, so an offer costs {@code O(log capacity)}.
+ * Methods are synchronized; the summary is meant to be small.
+ */
+public final class SpaceSaving {
+
+    private static final Comparator<Counter> BY_COUNT =
+        Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    private static final class Counter {
+
+        final long key;
+        long count;
+        long error;
+
+        Counter(long key) {
+            this.key = key;
+        }
+    }
+
+    public synchronized void offer(long key, long weight) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter(key);
+            } else {
+                Counter smallest = byCount.pollFirst();
+                counters.remove(smallest.key);
+                counter = new Counter(key);
+                counter.count = smallest.count;
+                counter.error = smallest.count;
+            }
+            counters.put(key, counter);
+        } else {
+            byCount.remove(counter);
+        }
+        counter.count += weight;
+        byCount.add(counter);
+    }
+
+    /** The tracked keys and their counts, which overestimate by at most the evicted weight. */
+    public synchronized Map<Long, Long> counts() {
+        Map<Long, Long> counts = new HashMap<>(counters.size() * 2);
+        for (Counter counter : counters.values()) {
+            counts.put(counter.key, counter.count);
+        }
+        return counts;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobconnect.util;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits free text and comma-separated skill lists into normalized terms for
+ * the in-memory search indexes. Terms are lower-cased; characters such as
+ * {@code +}, {@code #} and inner dots are kept so "c++", "c#" and "node.js"
+ * survive as single terms.
+ */
+public final class TermAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+        "it", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with",
+        "you", "your", "years", "year", "experience", "work", "working", "team", "role", "job");
+
+    private TermAnalyzer() {
+    }
+
+    /** Emits the word terms of {@code text}, skipping stop words and single letters other than "c" and "r". */
+    public static void words(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? lower.charAt(i) : ' ';
+            if (isTermChar(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                emit(lower, start, i, sink);
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Emits each entry of a comma, semicolon or slash separated skill list as a
+     * phrase term prefixed with {@code "skill:"}, followed by its word terms.
+     */
+    public static void skills(String skills, Consumer<String> phraseSink, Consumer<String> wordSink) {
+        if (skills == null || skills.isEmpty()) {
+            return;
+        }
+        for (String skill : skills.split("[,;/|\\n]")) {
+            String phrase = skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            if (!phrase.isEmpty()) {
+                phraseSink.accept("skill:" + phrase);
+                words(phrase, wordSink);
+            }
+        }
+    }
+
+    private static boolean isTermChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.';
+    }
+
+    private static void emit(String text, int start, int end, Consumer<String> sink) {
+        // Trim sentence punctuation while keeping inner dots ("node.js")
+        while (start < end && text.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (start >= end) {
+            return;
+        }
+        String term = text.substring(start, end);
+        if (term.length() == 1 && !term.equals("c") && !term.equals("r")) {
+            return;
+        }
+        if (!STOP_WORDS.contains(term)) {
+            sink.accept(term);
+        }
+    }
+}
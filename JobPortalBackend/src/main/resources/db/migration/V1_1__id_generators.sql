@@ -0,0 +1,32 @@
+-- Entity ids come from the pooled id_generators table instead of AUTO_INCREMENT.
+-- Each generator starts above the highest existing id; a database that already
+-- has the table keeps any generator that is further ahead.
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'applicant_accounts', COALESCE(MAX(id), 0) + 1 FROM applicant_accounts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'employer_accounts', COALESCE(MAX(id), 0) + 1 FROM employer_accounts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'jobs', COALESCE(MAX(id), 0) + 1 FROM jobs
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'job_applications', COALESCE(MAX(id), 0) + 1 FROM job_applications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(id), 0) + 1 FROM notifications
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'password_reset_tokens', COALESCE(MAX(id), 0) + 1 FROM password_reset_tokens
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
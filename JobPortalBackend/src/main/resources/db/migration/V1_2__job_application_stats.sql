@@ -0,0 +1,11 @@
+-- Application counters per (job, status) for the employer dashboard.
+-- ApplicationStatsService fills an empty table from job_applications at startup.
+CREATE TABLE IF NOT EXISTS job_application_stats (
+    job_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    employer_id BIGINT NOT NULL,
+    application_count BIGINT NOT NULL,
+    last_applied_at DATETIME(6),
+    PRIMARY KEY (job_id, status),
+    INDEX idx_job_application_stats_employer (employer_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,32 @@
+-- One application per applicant and job, enforced by the database.
+-- Skipped when the constraint already exists.
+SET @has_constraint = (
+    SELECT COUNT(*) FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE() AND table_name = 'job_applications'
+      AND constraint_name = 'uk_job_applications_applicant_job'
+);
+
+-- Keep the earliest application when duplicates already exist.
+SET @dml = IF(@has_constraint > 0, 'DO 0',
+    'DELETE ja FROM job_applications ja
+     JOIN job_applications earlier
+         ON earlier.applicant_id = ja.applicant_id
+        AND earlier.job_id = ja.job_id
+        AND earlier.id < ja.id');
+PREPARE stmt FROM @dml;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@has_constraint > 0, 'DO 0',
+    'ALTER TABLE job_applications
+     ADD CONSTRAINT uk_job_applications_applicant_job UNIQUE (applicant_id, job_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Counters may include the removed duplicates; ApplicationStatsService
+-- rebuilds an empty table at startup.
+SET @dml = IF(@has_constraint > 0, 'DO 0', 'DELETE FROM job_application_stats');
+PREPARE stmt FROM @dml;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
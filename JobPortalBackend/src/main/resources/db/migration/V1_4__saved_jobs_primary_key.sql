@@ -0,0 +1,38 @@
+-- Gives saved_jobs set semantics: a saved_at column and an (applicant_id, job_id)
+-- primary key, in place of the keyless @ManyToMany join table. Each step is
+-- skipped when a database already has its result.
+SET @has_saved_at = (
+    SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'saved_jobs' AND column_name = 'saved_at'
+);
+SET @ddl = IF(@has_saved_at > 0, 'DO 0', 'ALTER TABLE saved_jobs ADD COLUMN saved_at DATETIME(6)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_primary_key = (
+    SELECT COUNT(*) FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE() AND table_name = 'saved_jobs' AND constraint_type = 'PRIMARY KEY'
+);
+
+-- Keep one row per pair, with the earliest save time
+CREATE TEMPORARY TABLE saved_jobs_dedup AS
+SELECT applicant_id, job_id, COALESCE(MIN(saved_at), NOW(6)) AS saved_at
+FROM saved_jobs
+WHERE @has_primary_key = 0
+GROUP BY applicant_id, job_id;
+
+SET @dml = IF(@has_primary_key > 0, 'DO 0', 'DELETE FROM saved_jobs');
+PREPARE stmt FROM @dml;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@has_primary_key > 0, 'DO 0', 'ALTER TABLE saved_jobs ADD PRIMARY KEY (applicant_id, job_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+INSERT INTO saved_jobs (applicant_id, job_id, saved_at)
+SELECT applicant_id, job_id, saved_at FROM saved_jobs_dedup;
+
+DROP TEMPORARY TABLE saved_jobs_dedup;
@@ -0,0 +1,13 @@
+-- Applicants' saved job searches, matched against new jobs for alerts.
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id BIGINT NOT NULL,
+    applicant_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    criteria VARCHAR(4000) NOT NULL,
+    alerts_enabled BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_saved_searches_applicant (applicant_id),
+    CONSTRAINT fk_saved_searches_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- JobRepository.findActiveDeadlines, read by JobExpiryService at startup and on resync.
+-- Skipped when the index already exists.
+SET @has_index = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'jobs' AND index_name = 'idx_jobs_status_deadline'
+);
+SET @ddl = IF(@has_index > 0, 'DO 0', 'CREATE INDEX idx_jobs_status_deadline ON jobs (status, application_deadline)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
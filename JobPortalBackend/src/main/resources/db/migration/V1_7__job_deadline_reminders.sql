@@ -0,0 +1,11 @@
+-- The deadline a job's "closes soon" reminder was last sent for. JobExpiryService
+-- claims each reminder by setting it with a guarded update before sending, so only
+-- one node sends it; a moved deadline no longer matches and is reminded about again.
+SET @has_column = (
+    SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'reminder_sent_for'
+);
+SET @ddl = IF(@has_column > 0, 'DO 0', 'ALTER TABLE jobs ADD COLUMN reminder_sent_for DATETIME(6)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
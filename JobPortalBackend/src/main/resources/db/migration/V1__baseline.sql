@@ -0,0 +1,116 @@
+-- Schema as Hibernate (ddl-auto=update) created it before any of the V1_x
+-- migrations' changes. Existing databases are baselined at this version and
+-- skip this script; new databases are created from it.
+
+-- AUTO_INCREMENT stays on the id columns so the seed scripts, which omit ids, still work.
+CREATE TABLE applicant_accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    full_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    bio VARCHAR(2000),
+    skills VARCHAR(255),
+    experience VARCHAR(255),
+    education VARCHAR(255),
+    resume_url VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_applicant_accounts_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE employer_accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    contact_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    company_name VARCHAR(255) NOT NULL,
+    company_description VARCHAR(2000),
+    company_website VARCHAR(255),
+    company_location VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employer_accounts_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE jobs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    company VARCHAR(255) NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    job_type VARCHAR(255),
+    work_mode VARCHAR(255),
+    experience_level VARCHAR(255),
+    description VARCHAR(3000),
+    requirements VARCHAR(2000),
+    responsibilities VARCHAR(1000),
+    salary VARCHAR(255),
+    skills VARCHAR(255),
+    min_experience INT,
+    max_experience INT,
+    education VARCHAR(255),
+    industry VARCHAR(255),
+    benefits VARCHAR(255),
+    application_deadline DATETIME(6),
+    status VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    employer_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_jobs_employer FOREIGN KEY (employer_id) REFERENCES employer_accounts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_applications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    job_id BIGINT NOT NULL,
+    applicant_id BIGINT NOT NULL,
+    cover_letter VARCHAR(2000),
+    resume_url VARCHAR(255),
+    status VARCHAR(255),
+    notes VARCHAR(1000),
+    applied_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_job_applications_job FOREIGN KEY (job_id) REFERENCES jobs (id),
+    CONSTRAINT fk_job_applications_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    applicant_id BIGINT,
+    employer_id BIGINT,
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(2000) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    is_read BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id),
+    CONSTRAINT fk_notifications_employer FOREIGN KEY (employer_id) REFERENCES employer_accounts (id)
+) ENGINE = InnoDB;
+
+-- Hibernate 6.2 maps @Enumerated(STRING) to a native ENUM column on MySQL
+CREATE TABLE password_reset_tokens (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    token VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used BIT NOT NULL,
+    role ENUM('APPLICANT', 'EMPLOYER') NOT NULL,
+    applicant_id BIGINT,
+    employer_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id),
+    CONSTRAINT fk_password_reset_tokens_employer FOREIGN KEY (employer_id) REFERENCES employer_accounts (id)
+) ENGINE = InnoDB;
+
+-- The join table of the ApplicantAccount.savedJobs @ManyToMany: no key, no saved_at
+CREATE TABLE saved_jobs (
+    applicant_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    CONSTRAINT fk_saved_jobs_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id),
+    CONSTRAINT fk_saved_jobs_job FOREIGN KEY (job_id) REFERENCES jobs (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- Databases that predate the applicant/employer split still have a NOT NULL
+-- notifications.user_id column that nothing writes. Make it nullable once,
+-- instead of on every startup; new databases never had the column.
+SET @has_user_id = (
+    SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'notifications' AND column_name = 'user_id'
+);
+SET @ddl = IF(@has_user_id > 0, 'ALTER TABLE notifications MODIFY COLUMN user_id BIGINT NULL', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,26 @@
+-- Indexes for the repository queries. Each leads with the equality columns of
+-- its query and ends with the ORDER BY column, so pages are read in index order.
+
+-- JobRepository.findByStatus, findVersionsByStatus, findTop10ByStatusOrderByCreatedAtDesc,
+-- searchJobs and the job search specification (status = 'ACTIVE', newest first)
+CREATE INDEX idx_jobs_status_created ON jobs (status, created_at);
+
+-- JobRepository.findByEmployer, countByEmployer; JobApplicationStatsRepository.findDashboardRows
+-- (employer_id = ? ORDER BY created_at DESC); also serves the employer foreign key
+CREATE INDEX idx_jobs_employer_created ON jobs (employer_id, created_at);
+
+-- JobApplicationRepository.findByJob, countByJob, countByJobAndStatus, findCandidateRows,
+-- streamExportRows; lookups by applicant use uk_job_applications_applicant_job
+CREATE INDEX idx_job_applications_job_status ON job_applications (job_id, status);
+
+-- NotificationRepository.countByApplicantIdAndReadFalse and findVersion (covering)
+CREATE INDEX idx_notifications_applicant_read_created ON notifications (applicant_id, is_read, created_at);
+
+-- NotificationRepository.findByApplicantIdOrderByCreatedAtDesc
+CREATE INDEX idx_notifications_applicant_created ON notifications (applicant_id, created_at);
+
+-- PasswordResetTokenRepository.deleteByExpiresAtBefore, run on every forgot-password request
+CREATE INDEX idx_password_reset_tokens_expires ON password_reset_tokens (expires_at);
+
+-- SavedJobRepository.findSavedJobs (applicant_id = ? ORDER BY saved_at DESC)
+CREATE INDEX idx_saved_jobs_applicant_saved ON saved_jobs (applicant_id, saved_at);
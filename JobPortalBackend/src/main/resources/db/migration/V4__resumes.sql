@@ -0,0 +1,18 @@
+-- Uploaded resumes; the file bytes are kept in the content-addressed resume store.
+CREATE TABLE resumes (
+    id BIGINT NOT NULL,
+    applicant_id BIGINT NOT NULL,
+    sha256 VARCHAR(64) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size BIGINT NOT NULL,
+    uploaded_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_resumes_applicant_uploaded (applicant_id, uploaded_at),
+    CONSTRAINT fk_resumes_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id)
+) ENGINE = InnoDB;
+
+-- The uploaded resume an application was submitted with, if any
+ALTER TABLE job_applications
+    ADD COLUMN resume_id BIGINT,
+    ADD CONSTRAINT fk_job_applications_resume FOREIGN KEY (resume_id) REFERENCES resumes (id);
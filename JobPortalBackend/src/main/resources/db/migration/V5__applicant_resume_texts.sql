@@ -0,0 +1,10 @@
+-- Text extracted from each applicant's current resume, indexed by talent search
+CREATE TABLE applicant_resume_texts (
+    applicant_id BIGINT NOT NULL,
+    resume_id BIGINT NOT NULL,
+    text MEDIUMTEXT NOT NULL,
+    extracted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (applicant_id),
+    CONSTRAINT fk_applicant_resume_texts_applicant FOREIGN KEY (applicant_id) REFERENCES applicant_accounts (id),
+    CONSTRAINT fk_applicant_resume_texts_resume FOREIGN KEY (resume_id) REFERENCES resumes (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,54 @@
+-- Append-only status history; stages are ApplicationStage codes, ts is epoch milliseconds
+CREATE TABLE application_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    application_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    from_stage TINYINT,
+    to_stage TINYINT NOT NULL,
+    ts BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_application_events_job_ts (job_id, ts),
+    INDEX idx_application_events_application_ts (application_id, ts)
+) ENGINE = InnoDB;
+
+CREATE TABLE application_funnel_stats (
+    job_id BIGINT NOT NULL,
+    stage TINYINT NOT NULL,
+    employer_id BIGINT NOT NULL,
+    entered BIGINT NOT NULL,
+    reached BIGINT NOT NULL,
+    exited BIGINT NOT NULL,
+    time_in_stage_ms BIGINT NOT NULL,
+    PRIMARY KEY (job_id, stage),
+    INDEX idx_application_funnel_stats_employer (employer_id)
+) ENGINE = InnoDB;
+
+-- Backfill what the current rows still tell us: the apply, and the move to the current status if it
+-- is not PENDING. DATETIME columns hold application-server local time, read here in the session zone.
+INSERT INTO application_events (application_id, job_id, from_stage, to_stage, ts)
+SELECT id, job_id, NULL, 1, CAST(UNIX_TIMESTAMP(applied_at) * 1000 AS SIGNED)
+FROM job_applications
+WHERE applied_at IS NOT NULL;
+
+INSERT INTO application_events (application_id, job_id, from_stage, to_stage, ts)
+SELECT id, job_id, 1,
+       CASE status WHEN 'REVIEWED' THEN 2 WHEN 'SHORTLISTED' THEN 3 WHEN 'REJECTED' THEN 4 ELSE 5 END,
+       CAST(UNIX_TIMESTAMP(COALESCE(updated_at, applied_at)) * 1000 AS SIGNED)
+FROM job_applications
+WHERE applied_at IS NOT NULL AND status IN ('REVIEWED', 'SHORTLISTED', 'REJECTED', 'ACCEPTED');
+
+INSERT INTO application_funnel_stats (job_id, stage, employer_id, entered, reached, exited, time_in_stage_ms)
+SELECT e.job_id, e.to_stage, j.employer_id, COUNT(*), COUNT(DISTINCT e.application_id), 0, 0
+FROM application_events e
+JOIN jobs j ON j.id = e.job_id
+GROUP BY e.job_id, e.to_stage, j.employer_id;
+
+UPDATE application_funnel_stats f
+JOIN (
+    SELECT moved.job_id, COUNT(*) AS exits, SUM(GREATEST(moved.ts - applied.ts, 0)) AS total_ms
+    FROM application_events moved
+    JOIN application_events applied ON applied.application_id = moved.application_id AND applied.from_stage IS NULL
+    WHERE moved.from_stage = 1
+    GROUP BY moved.job_id
+) pending ON pending.job_id = f.job_id AND f.stage = 1
+SET f.exited = pending.exits, f.time_in_stage_ms = pending.total_ms;
@@ -0,0 +1,10 @@
+-- Job detail views per UTC day, flushed in batches by JobViewTracker. hll holds the day's
+-- HyperLogLog registers (2^10 bytes) so sketches from several instances and flushes merge.
+CREATE TABLE job_view_stats (
+    job_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    views BIGINT NOT NULL,
+    unique_viewers BIGINT NOT NULL,
+    hll VARBINARY(1024) NOT NULL,
+    PRIMARY KEY (job_id, day)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- Committed changes for other nodes' caches, written by JdbcChangeEventBus in the changing
+-- transaction and polled by seq. entity holds ChangeEvent.Entity codes; origin is the writing
+-- node's boot id. Rows are pruned after jobconnect.change-bus.retention.
+CREATE TABLE change_log (
+    seq BIGINT NOT NULL AUTO_INCREMENT,
+    origin VARCHAR(16) NOT NULL,
+    entity TINYINT NOT NULL,
+    entity_id BIGINT NOT NULL,
+    removed BOOLEAN NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (seq),
+    INDEX idx_change_log_created_at (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- Revoked JWTs, loaded into TokenRevocationList on every node. A row revokes one token by jti,
+-- or every token issued to subject (the account email) before revoked_before. Times are epoch
+-- milliseconds; rows are pruned once expires_at, when the last token they cover expires, has passed.
+CREATE TABLE token_revocations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    jti VARCHAR(64) NULL,
+    subject VARCHAR(255) NULL,
+    revoked_before BIGINT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_token_revocations_jti (jti),
+    INDEX idx_token_revocations_expires_at (expires_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,53 @@
+package com.jobconnect.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+        mock(DataSource.class), List.of(replica), new RecentWriteTracker(60_000), 5_000);
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToAReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void onPrimaryKeepsReadsOnThePrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object[] key = new Object[2];
+
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            key[0] = routing.determineCurrentLookupKey();
+            ReplicaRoutingDataSource.onPrimary(() -> key[1] = routing.determineCurrentLookupKey());
+        });
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, key[0]);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, key[1]);
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void laggingReplicaLeavesTheRotation() {
+        routing.updateLag(0, 10_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(List.of(), routing.getReplicasInRotation());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+}
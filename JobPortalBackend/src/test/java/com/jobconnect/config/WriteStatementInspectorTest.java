@@ -0,0 +1,92 @@
+package com.jobconnect.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jobconnect.security.AccountPrincipal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class WriteStatementInspectorTest {
+
+    private final RecentWriteTracker tracker = new RecentWriteTracker(60_000);
+    private final WriteStatementInspector inspector = new WriteStatementInspector(tracker);
+
+    @BeforeEach
+    void signIn() {
+        AccountPrincipal principal = AccountPrincipal.applicant(1L, "a@example.com", "");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recognizesWriteStatements() {
+        assertTrue(WriteStatementInspector.isWrite("insert into jobs (id) values (?)"));
+        assertTrue(WriteStatementInspector.isWrite("  UPDATE jobs set title=? where id=?"));
+        assertTrue(WriteStatementInspector.isWrite("/* delete com.jobconnect.entity.Job */ delete from jobs where id=?"));
+        assertFalse(WriteStatementInspector.isWrite("select j.id from jobs j where j.title like 'update%'"));
+        assertFalse(WriteStatementInspector.isWrite("select * from updates"));
+        assertFalse(WriteStatementInspector.isWrite("updated_at"));
+        assertFalse(WriteStatementInspector.isWrite("/* unterminated"));
+    }
+
+    @Test
+    void readOnlyTransactionDoesNotPin() {
+        TransactionSynchronizationManager.initSynchronization();
+        inspector.inspect("select * from jobs");
+        complete(true);
+
+        assertFalse(tracker.wroteRecently());
+    }
+
+    @Test
+    void committedWritePinsAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        inspector.inspect("insert into saved_jobs values (?, ?, ?)");
+        inspector.inspect("update jobs set title=? where id=?");
+
+        assertFalse(tracker.wroteRecently());
+        complete(true);
+        assertTrue(tracker.wroteRecently());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPin() {
+        TransactionSynchronizationManager.initSynchronization();
+        inspector.inspect("insert into saved_jobs values (?, ?, ?)");
+        complete(false);
+
+        assertFalse(tracker.wroteRecently());
+    }
+
+    @Test
+    void writeOutsideTransactionPinsImmediately() {
+        inspector.inspect("delete from saved_jobs where applicant_id=?");
+
+        assertTrue(tracker.wroteRecently());
+    }
+
+    private static void complete(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (commit) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
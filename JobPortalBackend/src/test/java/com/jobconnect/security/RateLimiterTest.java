@@ -0,0 +1,82 @@
+package com.jobconnect.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final RateLimiter.Limit THREE_PER_HOUR = new RateLimiter.Limit("test", 3, Duration.ofHours(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiter limiter = new RateLimiter(meterRegistry, 100);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(THREE_PER_HOUR, "a").isZero());
+        }
+
+        Duration wait = limiter.tryAcquire(THREE_PER_HOUR, "a");
+        assertFalse(wait.isZero());
+        assertTrue(wait.compareTo(Duration.ofMinutes(21)) < 0, "one token refills in 20 minutes, got " + wait);
+        assertEquals(1.0, meterRegistry.get(RateLimiter.REJECTED_METRIC).tag("limit", "test").counter().count());
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(THREE_PER_HOUR, "a");
+        }
+
+        assertTrue(limiter.tryAcquire(THREE_PER_HOUR, "b").isZero());
+    }
+
+    @Test
+    void refillsOverThePeriod() throws InterruptedException {
+        RateLimiter.Limit fast = new RateLimiter.Limit("fast", 1, Duration.ofMillis(100));
+        assertTrue(limiter.tryAcquire(fast, "a").isZero());
+        assertFalse(limiter.tryAcquire(fast, "a").isZero());
+
+        Thread.sleep(150);
+        assertTrue(limiter.tryAcquire(fast, "a").isZero());
+    }
+
+    @Test
+    void acquireThrowsWithRetryAfter() {
+        RateLimiter.Limit once = new RateLimiter.Limit("once", 1, Duration.ofHours(1));
+        limiter.acquire(once, "a");
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, () -> limiter.acquire(once, "a"));
+        assertFalse(e.getRetryAfter().isZero());
+    }
+
+    @Test
+    void keysBeyondTheLimitShareAnOverflowBucket() {
+        RateLimiter small = new RateLimiter(new SimpleMeterRegistry(), 2);
+        small.tryAcquire(THREE_PER_HOUR, "a");
+        small.tryAcquire(THREE_PER_HOUR, "b");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(small.tryAcquire(THREE_PER_HOUR, "new-" + i).isZero());
+        }
+        assertFalse(small.tryAcquire(THREE_PER_HOUR, "new-3").isZero());
+    }
+
+    @Test
+    void idleBucketsAreSwept() throws InterruptedException {
+        RateLimiter.Limit fast = new RateLimiter.Limit("fast", 1, Duration.ofMillis(50));
+        limiter.tryAcquire(fast, "a");
+        limiter.tryAcquire(THREE_PER_HOUR, "b");
+
+        Thread.sleep(100);
+        limiter.evictIdle();
+
+        assertEquals(1.0, meterRegistry.get("jobconnect.rate-limit.buckets").gauge().value());
+    }
+}
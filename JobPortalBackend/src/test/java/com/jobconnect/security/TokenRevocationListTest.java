@@ -0,0 +1,126 @@
+package com.jobconnect.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.service.InMemoryChangeEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+
+class TokenRevocationListTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final AtomicLong nextId = new AtomicLong(1);
+    // token_revocations rows, in the column order jti, subject, revoked_before, expires_at
+    private final List<Object[]> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(call -> {
+            KeyHolder keyHolder = call.getArgument(1);
+            keyHolder.getKeyList().add(Map.of("GENERATED_KEY", nextId.getAndIncrement()));
+            return 1;
+        });
+        when(jdbcTemplate.query(contains("expires_at >= ?"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(call -> map(call.getArgument(1), stored));
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        TokenRevocationList list = newList(bus);
+        long now = System.currentTimeMillis();
+
+        list.revokeToken("jti-1", now + HOUR);
+
+        assertTrue(list.isRevoked("jti-1", "a@example.com", now));
+        assertFalse(list.isRevoked("jti-2", "a@example.com", now));
+        assertFalse(list.isRevoked(null, "a@example.com", now));
+    }
+
+    @Test
+    void logoutAllRevokesTokensIssuedUpToTheCutoff() {
+        TokenRevocationList list = newList(bus);
+        long now = System.currentTimeMillis();
+
+        list.revokeAllTokens("a@example.com", Duration.ofHours(1));
+
+        assertTrue(list.isRevoked("jti-1", "a@example.com", now - HOUR));
+        assertTrue(list.isRevoked("jti-2", "a@example.com", now));
+        assertFalse(list.isRevoked("jti-3", "a@example.com", now + 2_000));
+        assertFalse(list.isRevoked("jti-4", "b@example.com", now));
+    }
+
+    @Test
+    void loadsStoredRevocationsAtStartup() {
+        long now = System.currentTimeMillis();
+        stored.add(new Object[] {"jti-1", null, 0L, now + HOUR});
+        stored.add(new Object[] {null, "a@example.com", now, now + HOUR});
+
+        TokenRevocationList list = newList(bus);
+
+        assertTrue(list.isRevoked("jti-1", "b@example.com", now));
+        assertTrue(list.isRevoked("jti-2", "a@example.com", now - 1_000));
+    }
+
+    @Test
+    void revocationOnAnotherNodeArrivesThroughTheBus() {
+        long now = System.currentTimeMillis();
+        TokenRevocationList list = newList(bus);
+        TokenRevocationList otherNode = newList(InMemoryChangeEventBus.joining(bus));
+        when(jdbcTemplate.query(contains("WHERE id = ?"), any(RowMapper.class), eq(1L)))
+            .thenAnswer(call -> map(call.getArgument(1), List.<Object[]>of(new Object[] {"jti-1", null, 0L, now + HOUR})));
+
+        otherNode.revokeToken("jti-1", now + HOUR);
+
+        assertTrue(list.isRevoked("jti-1", "a@example.com", now));
+    }
+
+    @Test
+    void rebuildDropsExpiredRevocations() {
+        long now = System.currentTimeMillis();
+        stored.add(new Object[] {"jti-1", null, 0L, now + HOUR});
+        TokenRevocationList list = newList(bus);
+
+        stored.clear();
+        list.prune();
+
+        assertFalse(list.isRevoked("jti-1", "a@example.com", now));
+    }
+
+    private TokenRevocationList newList(InMemoryChangeEventBus changeEventBus) {
+        return new TokenRevocationList(jdbcTemplate, changeEventBus, new SimpleMeterRegistry(), 1000);
+    }
+
+    private static List<Object> map(RowMapper<?> mapper, List<Object[]> rows) throws SQLException {
+        List<Object> mapped = new ArrayList<>();
+        for (Object[] row : rows) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString("jti")).thenReturn((String) row[0]);
+            when(rs.getString("subject")).thenReturn((String) row[1]);
+            when(rs.getLong("revoked_before")).thenReturn((Long) row[2]);
+            when(rs.getLong("expires_at")).thenReturn((Long) row[3]);
+            mapped.add(mapper.mapRow(rs, mapped.size()));
+        }
+        return mapped;
+    }
+}
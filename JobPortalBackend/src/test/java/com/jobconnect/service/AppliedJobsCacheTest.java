@@ -0,0 +1,74 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.JobChangedEvent;
+import com.jobconnect.repository.JobApplicationRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AppliedJobsCacheTest {
+
+    private final JobApplicationRepository repository = mock(JobApplicationRepository.class);
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final AppliedJobsCache cache = new AppliedJobsCache(repository, bus, 100);
+
+    @Test
+    void servesRepeatedChecksFromMemory() {
+        when(repository.findJobIdsByApplicantId(1L)).thenReturn(List.of(30L, 10L, 20L));
+
+        assertTrue(cache.hasApplied(1L, 10));
+        assertTrue(cache.hasApplied(1L, 30));
+        assertFalse(cache.hasApplied(1L, 40));
+        verify(repository, times(1)).findJobIdsByApplicantId(1L);
+    }
+
+    @Test
+    void deletedJobEvictsItsApplicantsOnly() {
+        when(repository.findJobIdsByApplicantId(1L)).thenReturn(List.of(10L, 20L), List.of(20L));
+        when(repository.findJobIdsByApplicantId(2L)).thenReturn(List.of(20L));
+        cache.hasApplied(1L, 10);
+        cache.hasApplied(2L, 20);
+
+        Job job = new Job();
+        job.setId(10L);
+        cache.onJobChanged(new JobChangedEvent(JobChangedEvent.Type.DELETED, job));
+
+        assertFalse(cache.hasApplied(1L, 10));
+        assertTrue(cache.hasApplied(2L, 20));
+        verify(repository, times(2)).findJobIdsByApplicantId(1L);
+        verify(repository, times(1)).findJobIdsByApplicantId(2L);
+    }
+
+    @Test
+    void changesOnAnotherNodeEvictEntries() {
+        InMemoryChangeEventBus otherNode = InMemoryChangeEventBus.joining(bus);
+        when(repository.findJobIdsByApplicantId(1L)).thenReturn(List.of(10L), List.of(10L, 20L), List.of(20L));
+        cache.hasApplied(1L, 10);
+
+        otherNode.publish(ChangeEvent.Entity.APPLIED_JOBS, 1L, false);
+        assertTrue(cache.hasApplied(1L, 20));
+
+        otherNode.publish(ChangeEvent.Entity.JOB, 10L, true);
+        assertFalse(cache.hasApplied(1L, 10));
+        verify(repository, times(3)).findJobIdsByApplicantId(1L);
+    }
+
+    @Test
+    void ownChangesAreNotDeliveredBackToThisNode() {
+        when(repository.findJobIdsByApplicantId(1L)).thenReturn(List.of(10L));
+        cache.hasApplied(1L, 10);
+
+        bus.publish(ChangeEvent.Entity.JOB, 10L, true);
+        cache.hasApplied(1L, 10);
+
+        verify(repository, times(1)).findJobIdsByApplicantId(1L);
+    }
+}
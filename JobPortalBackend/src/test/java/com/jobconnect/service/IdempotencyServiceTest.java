@@ -0,0 +1,101 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService service = new IdempotencyService(
+        new ObjectMapper(), 100, Duration.ofHours(1), Duration.ofMillis(200));
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void sameRequestReplaysFirstResponse() {
+        ResponseEntity<?> first = apply("key-1", Map.of("jobId", 7));
+        ResponseEntity<?> retry = apply("key-1", Map.of("jobId", 7));
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getBody(), retry.getBody());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void reusedKeyWithDifferentBodyIsRejected() {
+        apply("key-1", Map.of("jobId", 7));
+        ResponseEntity<?> other = apply("key-1", Map.of("jobId", 8));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, other.getStatusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void reusedKeyOnDifferentPathIsRejected() {
+        apply("key-1", Map.of("jobId", 7));
+        ResponseEntity<?> other = service.execute("apply:1", "key-1",
+            new MockHttpServletRequest("POST", "/api/jobs"), Map.of("jobId", 7), this::created);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, other.getStatusCode());
+    }
+
+    @Test
+    void failedAttemptCanBeRetried() {
+        service.execute("apply:1", "key-1", new MockHttpServletRequest("POST", "/api/applications/apply"),
+            Map.of("jobId", 7), () -> ResponseEntity.badRequest().build());
+        ResponseEntity<?> retry = apply("key-1", Map.of("jobId", 7));
+
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void retryWhileFirstRequestRunsGetsConflict() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = new Thread(() -> apply("key-1", Map.of("jobId", 7), () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return created();
+        }));
+        first.start();
+        started.await();
+
+        ResponseEntity<?> retry = apply("key-1", Map.of("jobId", 7));
+        release.countDown();
+        first.join();
+
+        assertEquals(HttpStatus.CONFLICT, retry.getStatusCode());
+        assertEquals("1", retry.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.CREATED, apply("key-1", Map.of("jobId", 7)).getStatusCode());
+    }
+
+    private ResponseEntity<?> apply(String key, Object body) {
+        return apply(key, body, this::created);
+    }
+
+    private ResponseEntity<?> apply(String key, Object body, Supplier<ResponseEntity<?>> action) {
+        return service.execute("apply:1", key, new MockHttpServletRequest("POST", "/api/applications/apply"),
+            body, action);
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", calls.incrementAndGet()));
+    }
+}
@@ -0,0 +1,142 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.config.ReplicaRoutingDataSource;
+import com.jobconnect.event.ChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class JdbcChangeEventBusTest {
+
+    private static final String HEAD = "SELECT COALESCE(MAX(seq), 0) FROM change_log";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> delivered = new ArrayList<>();
+    private final AtomicInteger resyncs = new AtomicInteger();
+
+    @Test
+    void deliversRowsThatCommitAfterAHigherSequence() {
+        JdbcChangeEventBus bus = newBus(Duration.ofMinutes(5));
+        when(jdbcTemplate.query(contains("seq > ?"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(rows(1, 3))
+            .thenAnswer(rows());
+        when(jdbcTemplate.query(contains("seq IN"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(rows(2));
+
+        bus.poll();
+        assertEquals(List.of(1L, 3L), delivered);
+
+        bus.poll();
+        assertEquals(List.of(1L, 3L, 2L), delivered);
+    }
+
+    @Test
+    void failedPollIsCountedAndLaterResyncs() throws InterruptedException {
+        JdbcChangeEventBus bus = newBus(Duration.ofMillis(500));
+        when(jdbcTemplate.query(contains("seq > ?"), any(RowMapper.class), any(Object[].class)))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenAnswer(rows());
+
+        bus.poll();
+        assertEquals(1.0, meterRegistry.get("jobconnect.change-bus.poll-failures")
+            .tag("exception", "DataAccessResourceFailureException").counter().count());
+        assertEquals(0, resyncs.get());
+
+        Thread.sleep(700);
+        bus.poll();
+        assertEquals(1, resyncs.get());
+        assertEquals(1.0, meterRegistry.get("jobconnect.change-bus.resyncs").counter().count());
+    }
+
+    @Test
+    void holdsRowsUntilTheReplicasHaveThem() throws SQLException {
+        ReplicaRoutingDataSource routing = mock(ReplicaRoutingDataSource.class);
+        ResultSet replicaRows = mock(ResultSet.class);
+        DataSource replica = replica(replicaRows);
+        when(routing.getReplicasInRotation()).thenReturn(List.of(replica));
+        // The replica has row 1 on the first poll, and rows 1 and 2 on the second
+        when(replicaRows.next()).thenReturn(true, false, true, true, false);
+        when(replicaRows.getLong(1)).thenReturn(1L, 1L, 2L);
+        JdbcChangeEventBus bus = newBus(Duration.ofMinutes(5), Optional.of(routing));
+        when(jdbcTemplate.query(contains("seq > ?"), any(RowMapper.class), eq(0L), eq(500)))
+            .thenAnswer(rows(1, 2));
+        when(jdbcTemplate.query(contains("seq > ?"), any(RowMapper.class), eq(1L), eq(500)))
+            .thenAnswer(rows(2));
+
+        bus.poll();
+        assertEquals(List.of(1L), delivered);
+
+        bus.poll();
+        assertEquals(List.of(1L, 2L), delivered);
+    }
+
+    private JdbcChangeEventBus newBus(Duration maxLag) {
+        return newBus(maxLag, Optional.empty());
+    }
+
+    private JdbcChangeEventBus newBus(Duration maxLag, Optional<ReplicaRoutingDataSource> routing) {
+        when(jdbcTemplate.queryForObject(eq(HEAD), eq(Long.class))).thenReturn(0L);
+        JdbcChangeEventBus bus = new JdbcChangeEventBus(
+            jdbcTemplate, routing, meterRegistry, 500, maxLag, Duration.ofMinutes(1), Duration.ofHours(1));
+        bus.subscribe(ChangeEvent.Entity.JOB, event -> delivered.add(event.getEntityId()), resyncs::incrementAndGet);
+        return bus;
+    }
+
+    /** Runs the bus's row mapper over change_log rows for JOB {@code sequence}, written by another node. */
+    private static Answer<List<Object>> rows(long... sequences) {
+        return call -> {
+            RowMapper<?> mapper = call.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (long sequence : sequences) {
+                mapped.add(mapper.mapRow(row(sequence), mapped.size()));
+            }
+            return mapped;
+        };
+    }
+
+    /** A replica whose change_log queries all answer {@code rows}. */
+    private static DataSource replica(ResultSet rows) throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rows);
+        when(rows.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        return replica;
+    }
+
+    private static ResultSet row(long sequence) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("seq")).thenReturn(sequence);
+        when(rs.getByte("entity")).thenReturn((byte) ChangeEvent.Entity.JOB.code());
+        when(rs.getLong("entity_id")).thenReturn(sequence);
+        when(rs.getString("origin")).thenReturn("other-node");
+        return rs;
+    }
+}
@@ -0,0 +1,132 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.dto.JobDeadlineRow;
+import com.jobconnect.entity.EmployerAccount;
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.repository.SavedJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class JobExpiryServiceTest {
+
+    private static final Duration LEAD = Duration.ofHours(48);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SavedJobRepository savedJobRepository = mock(SavedJobRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final JobExpiryService service = new JobExpiryService(jobRepository, savedJobRepository,
+        notificationService, mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+        jdbcTemplate, bus, Duration.ofMillis(1), 500, true, LEAD);
+
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        EmployerAccount employer = new EmployerAccount();
+        employer.setId(5L);
+        job = new Job();
+        job.setId(1L);
+        job.setTitle("Engineer");
+        job.setCompany("Acme");
+        job.setStatus("ACTIVE");
+        job.setEmployer(employer);
+        when(jobRepository.findById(1L)).thenAnswer(invocation -> Optional.of(job));
+        when(savedJobRepository.findApplicantIdsWithoutApplication(1L)).thenReturn(List.of(7L, 8L));
+    }
+
+    @Test
+    void claimedReminderIsSentToSavers() throws Exception {
+        LocalDateTime deadline = deadlineRemindingSoon();
+        job.setApplicationDeadline(deadline);
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(deadline))).thenReturn(1);
+
+        fireDueTimers();
+
+        verify(notificationService).createNotification(eq(7L), eq(5L), anyString(), anyString(), eq("DEADLINE_REMINDER"));
+        verify(notificationService).createNotification(eq(8L), eq(5L), anyString(), anyString(), eq("DEADLINE_REMINDER"));
+    }
+
+    @Test
+    void reminderClaimedByAnotherNodeIsSkipped() throws Exception {
+        LocalDateTime deadline = deadlineRemindingSoon();
+        job.setApplicationDeadline(deadline);
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(deadline))).thenReturn(0);
+
+        fireDueTimers();
+
+        verify(notificationService, never()).createNotification(anyLong(), anyLong(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void timerForAnOldDeadlineReschedulesInsteadOfSending() throws Exception {
+        job.setApplicationDeadline(deadlineRemindingSoon());
+        LocalDateTime extended = LocalDateTime.now().plusDays(10);
+        job.setApplicationDeadline(extended);
+
+        fireDueTimers();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(), any());
+        verify(notificationService, never()).createNotification(anyLong(), anyLong(), anyString(), anyString(), anyString());
+        assertEquals(2, service.pendingTimers());
+    }
+
+    @Test
+    void deadlineChangedOnAnotherNodeIsRescheduled() throws Exception {
+        deadlineRemindingSoon();
+        when(jobRepository.findActiveDeadline(1L))
+            .thenReturn(Optional.of(new JobDeadlineRow(1L, LocalDateTime.now().plusDays(10))));
+
+        InMemoryChangeEventBus.joining(bus).publish(ChangeEvent.Entity.JOB, 1L, false);
+        Thread.sleep(600);
+        service.tick();
+
+        verify(jobRepository, never()).findById(1L);
+        assertEquals(2, service.pendingTimers());
+    }
+
+    @Test
+    void jobClosedOnAnotherNodeDropsItsTimers() {
+        deadlineRemindingSoon();
+        when(jobRepository.findActiveDeadline(1L)).thenReturn(Optional.empty());
+
+        InMemoryChangeEventBus.joining(bus).publish(ChangeEvent.Entity.JOB, 1L, true);
+
+        assertEquals(0, service.pendingTimers());
+    }
+
+    /** Loads a deadline whose reminder is due in half a second and returns it. */
+    private LocalDateTime deadlineRemindingSoon() {
+        LocalDateTime deadline = LocalDateTime.now().plus(LEAD).plusNanos(500_000_000);
+        when(jobRepository.findActiveDeadlines()).thenReturn(List.of(new JobDeadlineRow(1L, deadline)));
+        service.loadDeadlines();
+        assertEquals(2, service.pendingTimers());
+        return deadline;
+    }
+
+    private void fireDueTimers() throws InterruptedException {
+        Thread.sleep(600);
+        service.tick();
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobconnect.dto.JobImportEvent;
+import com.jobconnect.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class JobImportServiceTest {
+
+    private final JobImportService service = new JobImportService(mock(JobService.class),
+        mock(JobRepository.class), mock(AccountService.class), mock(EntityManager.class),
+        mock(PlatformTransactionManager.class), mock(Validator.class), new ObjectMapper(),
+        mock(ApplicationEventPublisher.class));
+    private final List<JobImportEvent> events = new ArrayList<>();
+
+    @Test
+    void ndjsonErrorsReportSourceLines() throws IOException {
+        ReflectionTestUtils.setField(service, "maxLineChars", 100);
+
+        importNdjson("{bad\n\n\r\n{\"title\": \"" + "x".repeat(200) + "\"}\r{also bad\n");
+
+        assertEquals(List.of(1L, 4L, 5L), events.stream()
+            .filter(event -> "ERROR".equals(event.getType()))
+            .map(JobImportEvent::getLine)
+            .toList());
+        assertEquals("Line is longer than 100 characters", events.get(1).getMessage());
+        assertEquals(3L, events.get(events.size() - 1).getFailed());
+    }
+
+    private void importNdjson(String body) throws IOException {
+        service.importJobs(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+            JobImportService.Format.NDJSON, 1L, events::add);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.entity.SavedJobId;
+import com.jobconnect.repository.EmployerAccountRepository;
+import com.jobconnect.repository.JobRepository;
+import com.jobconnect.repository.SavedJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class JobServiceTest {
+
+    private final SavedJobRepository savedJobRepository = mock(SavedJobRepository.class);
+    private final TrendingJobTracker trendingJobTracker = mock(TrendingJobTracker.class);
+    private final JobService service = new JobService(mock(JobRepository.class),
+        mock(EmployerAccountRepository.class), savedJobRepository, mock(ApplicationStatsService.class),
+        mock(ApplicationHistoryService.class), mock(ApplicationEventPublisher.class), trendingJobTracker);
+
+    @Test
+    void newSaveCountsTowardsTrending() {
+        when(savedJobRepository.insertIfAbsent(eq(2L), eq(7L), any())).thenReturn(1);
+
+        service.saveJob(7L, 2L);
+
+        verify(trendingJobTracker).record(7L, TrendingJobTracker.Signal.SAVE);
+    }
+
+    @Test
+    void savingAgainDoesNotCountTowardsTrending() {
+        when(savedJobRepository.insertIfAbsent(eq(2L), eq(7L), any())).thenReturn(0);
+        when(savedJobRepository.existsById(new SavedJobId(2L, 7L))).thenReturn(true);
+
+        service.saveJob(7L, 2L);
+
+        verify(trendingJobTracker, never()).record(anyLong(), any());
+    }
+
+    @Test
+    void savingMissingJobFails() {
+        when(savedJobRepository.insertIfAbsent(eq(2L), eq(7L), any())).thenReturn(0);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.saveJob(7L, 2L));
+
+        assertEquals("Job not found", e.getMessage());
+        verify(trendingJobTracker, never()).record(anyLong(), any());
+    }
+}
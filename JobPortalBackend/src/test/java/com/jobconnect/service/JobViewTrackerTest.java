@@ -0,0 +1,93 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.entity.Job;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.event.JobChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class JobViewTrackerTest {
+
+    private static final String DELETE_STATS = "DELETE FROM job_view_stats WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final JobViewTracker tracker = new JobViewTracker(
+        jdbcTemplate, mock(PlatformTransactionManager.class), bus, new SimpleMeterRegistry(), 500);
+
+    @Test
+    void flushWritesPendingViews() {
+        tracker.recordView(10, null, "10.0.0.1", "agent");
+        tracker.recordView(10, null, "10.0.0.2", "agent");
+
+        tracker.flush();
+
+        List<Object[]> rows = flushedRows();
+        assertEquals(1, rows.size());
+        assertEquals(10L, rows.get(0)[0]);
+        assertEquals(2L, rows.get(0)[2]);
+    }
+
+    @Test
+    void deletedJobIsNotWrittenBack() {
+        tracker.recordView(10, null, "10.0.0.1", "agent");
+        tracker.recordView(20, null, "10.0.0.1", "agent");
+
+        Job job = new Job();
+        job.setId(10L);
+        tracker.onJobChanged(new JobChangedEvent(JobChangedEvent.Type.DELETED, job));
+        tracker.recordView(10, null, "10.0.0.2", "agent");
+        tracker.flush();
+
+        verify(jdbcTemplate).update(DELETE_STATS, 10L);
+        List<Object[]> rows = flushedRows();
+        assertEquals(1, rows.size());
+        assertEquals(20L, rows.get(0)[0]);
+    }
+
+    @Test
+    void jobDeletedOnAnotherNodeIsForgotten() {
+        InMemoryChangeEventBus otherNode = InMemoryChangeEventBus.joining(bus);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(10L))).thenReturn(0);
+        tracker.recordView(10, null, "10.0.0.1", "agent");
+
+        otherNode.publish(ChangeEvent.Entity.JOB, 10L, true);
+        tracker.flush();
+
+        verify(jdbcTemplate).update(DELETE_STATS, 10L);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void closedJobOnAnotherNodeKeepsItsViews() {
+        InMemoryChangeEventBus otherNode = InMemoryChangeEventBus.joining(bus);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(10L))).thenReturn(1);
+        tracker.recordView(10, null, "10.0.0.1", "agent");
+
+        otherNode.publish(ChangeEvent.Entity.JOB, 10L, true);
+        tracker.flush();
+
+        verify(jdbcTemplate, never()).update(DELETE_STATS, 10L);
+        assertEquals(1, flushedRows().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> flushedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        return rows.getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jobconnect.security.RateLimitExceededException;
+import com.jobconnect.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptServiceTest {
+
+    private final LoginAttemptService service = new LoginAttemptService(
+        new RateLimiter(new SimpleMeterRegistry(), 100), 3, Duration.ofMinutes(15), Duration.ofMinutes(15));
+
+    @Test
+    void locksOutTheClientAfterTooManyFailures() {
+        for (int i = 0; i < 3; i++) {
+            service.loginFailed("Owner@Example.com", "10.0.0.1");
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> service.checkAllowed("owner@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void failuresFromOneClientDoNotLockOutAnother() {
+        for (int i = 0; i < 3; i++) {
+            service.loginFailed("owner@example.com", "10.0.0.1");
+        }
+
+        assertDoesNotThrow(() -> service.checkAllowed("owner@example.com", "10.0.0.2"));
+    }
+}
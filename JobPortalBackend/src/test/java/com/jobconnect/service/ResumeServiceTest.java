@@ -0,0 +1,121 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.dto.ResumeResponse;
+import com.jobconnect.entity.ApplicantAccount;
+import com.jobconnect.entity.Resume;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import com.jobconnect.repository.JobApplicationRepository;
+import com.jobconnect.repository.ResumeRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+class ResumeServiceTest {
+
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    @TempDir
+    Path storageDir;
+
+    private final ResumeRepository resumeRepository = mock(ResumeRepository.class);
+    private final AccountService accountService = mock(AccountService.class);
+    private ResumeService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ResumeService(
+            new LocalResumeStorage(storageDir),
+            resumeRepository,
+            mock(ApplicantAccountRepository.class),
+            mock(JobApplicationRepository.class),
+            accountService,
+            mock(ApplicationEventPublisher.class),
+            mock(PlatformTransactionManager.class),
+            DataSize.ofKilobytes(1));
+        when(accountService.requireApplicant(1L)).thenReturn(new ApplicantAccount());
+        when(resumeRepository.save(any(Resume.class))).thenAnswer(call -> call.getArgument(0));
+    }
+
+    @Test
+    void acceptsWordDocument() throws IOException {
+        byte[] docx = zip("[Content_Types].xml", "_rels/.rels", "word/document.xml");
+
+        ResumeResponse response = service.upload(1L, "cv.docx", new ByteArrayInputStream(docx));
+
+        assertEquals(DOCX, response.getContentType());
+        assertEquals(docx.length, response.getSize());
+    }
+
+    @Test
+    void rejectsZipWithoutWordParts() throws IOException {
+        byte[] zip = zip("[Content_Types].xml", "xl/workbook.xml");
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+            () -> service.upload(1L, "cv.docx", new ByteArrayInputStream(zip)));
+
+        assertEquals("The file is not a valid DOCX document", e.getMessage());
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    void rejectsTruncatedZip() {
+        byte[] header = {'P', 'K', 0x03, 0x04, 0, 0, 0, 0, 0, 0};
+
+        assertThrows(RuntimeException.class,
+            () -> service.upload(1L, "cv.docx", new ByteArrayInputStream(header)));
+    }
+
+    @Test
+    void rejectsUploadOverTheLimitWhileCopying() throws IOException {
+        byte[] pdf = new byte[2048];
+        System.arraycopy("%PDF-".getBytes(StandardCharsets.US_ASCII), 0, pdf, 0, 5);
+
+        assertThrows(RuntimeException.class,
+            () -> service.upload(1L, "cv.pdf", new ByteArrayInputStream(pdf)));
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    void rejectsEmptyUpload() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+            () -> service.upload(1L, "cv.pdf", new ByteArrayInputStream(new byte[0])));
+
+        assertEquals("Resume file is required", e.getMessage());
+    }
+
+    private static byte[] zip(String... entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.write("<x/>".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private long storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(storageDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobconnect.dto.TalentIndexRow;
+import com.jobconnect.dto.TalentSearchRequest;
+import com.jobconnect.event.ApplicantProfileChangedEvent;
+import com.jobconnect.event.ChangeEvent;
+import com.jobconnect.repository.ApplicantAccountRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class TalentIndexTest {
+
+    private final ApplicantAccountRepository repository = mock(ApplicantAccountRepository.class);
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final TalentIndex index = new TalentIndex(repository, bus, 64);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findTalentIndexRows(anyLong(), any(Pageable.class))).thenReturn(List.of(
+            new TalentIndexRow(1L, "Java, Spring Boot", "5 years", null, "Backend developer", "kubernetes kubernetes"),
+            new TalentIndexRow(2L, "Python, Django", "2 years", null, "Web developer", null),
+            new TalentIndexRow(3L, "Java", "1 year", null, "Java developer", null)));
+        index.rebuild();
+    }
+
+    @Test
+    void requiredSkillsMustAllMatch() {
+        assertEquals(List.of(1L, 3L), ids(search(request -> request.setSkills("java"))));
+        assertEquals(List.of(1L), ids(search(request -> request.setSkills("java, spring boot"))));
+    }
+
+    @Test
+    void anyAndExcludedSkillsFilter() {
+        TalentIndex.Hits hits = search(request -> {
+            request.setAnySkills("python, spring boot");
+            request.setExcludeSkills("django");
+        });
+
+        assertEquals(List.of(1L), ids(hits));
+        assertEquals(1, hits.total());
+    }
+
+    @Test
+    void experienceRangeUsesParsedYears() {
+        assertEquals(List.of(1L, 2L), ids(search(request -> request.setMinExperience(2))));
+        assertEquals(List.of(3L), ids(search(request -> request.setMaxExperience(1))));
+    }
+
+    @Test
+    void keywordsRankByTermWeight() {
+        assertEquals(1L, search(request -> request.setKeyword("kubernetes")).applicants().get(0).applicantId());
+        assertEquals(3L, search(request -> {
+            request.setSkills("java");
+            request.setKeyword("java developer");
+        }).applicants().get(0).applicantId());
+    }
+
+    @Test
+    void profileChangesApplyIncrementally() {
+        when(repository.findTalentIndexRow(2L)).thenReturn(
+            Optional.of(new TalentIndexRow(2L, "Python, Java", "2 years", null, null, null)));
+        index.onProfileChanged(new ApplicantProfileChangedEvent(2L));
+        assertEquals(List.of(1L, 2L, 3L), ids(search(request -> request.setSkills("java"))));
+
+        when(repository.findTalentIndexRow(1L)).thenReturn(Optional.empty());
+        InMemoryChangeEventBus.joining(bus).publish(ChangeEvent.Entity.APPLICANT, 1L, false);
+        assertEquals(List.of(2L, 3L), ids(search(request -> request.setSkills("java"))));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void pagesThroughMatches() {
+        TalentIndex.Hits page = index.search(new TalentSearchRequest(), 1, 1);
+
+        assertEquals(1, page.applicants().size());
+        assertEquals(3, page.total());
+    }
+
+    private TalentIndex.Hits search(Consumer<TalentSearchRequest> filters) {
+        TalentSearchRequest request = new TalentSearchRequest();
+        filters.accept(request);
+        return index.search(request, 0, 10);
+    }
+
+    private static List<Long> ids(TalentIndex.Hits hits) {
+        return hits.applicants().stream().map(TalentIndex.ScoredApplicant::applicantId).sorted().toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobconnect.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jobconnect.event.ChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrendingJobTrackerTest {
+
+    private final InMemoryChangeEventBus bus = new InMemoryChangeEventBus();
+    private final TrendingJobTracker tracker = new TrendingJobTracker(new SimpleMeterRegistry(), bus,
+        Duration.ofHours(24), Duration.ofHours(1), Duration.ofHours(6));
+
+    @Test
+    void signalsCountOnlyOnceTheSnapshotIsRefreshed() {
+        tracker.record(1, TrendingJobTracker.Signal.VIEW);
+        tracker.record(2, TrendingJobTracker.Signal.APPLY);
+        assertEquals(List.of(), tracker.getTrendingJobIds(10));
+
+        tracker.refresh();
+        assertEquals(List.of(2L, 1L), tracker.getTrendingJobIds(10));
+
+        // Later views carry job 1 past job 2
+        for (int i = 0; i < 6; i++) {
+            tracker.record(1, TrendingJobTracker.Signal.VIEW);
+        }
+        tracker.refresh();
+        assertEquals(List.of(1L, 2L), tracker.getTrendingJobIds(10));
+    }
+
+    @Test
+    void jobClosedOnAnotherNodeDropsOut() {
+        tracker.record(1, TrendingJobTracker.Signal.SAVE);
+        tracker.record(2, TrendingJobTracker.Signal.VIEW);
+        tracker.refresh();
+
+        InMemoryChangeEventBus.joining(bus).publish(ChangeEvent.Entity.JOB, 1L, true);
+        tracker.record(1, TrendingJobTracker.Signal.SAVE);
+        tracker.refresh();
+
+        assertEquals(List.of(2L), tracker.getTrendingJobIds(10));
+    }
+}
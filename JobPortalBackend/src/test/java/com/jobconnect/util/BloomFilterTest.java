@@ -0,0 +1,43 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAnAddedItem() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(BloomFilter.hash("token-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(BloomFilter.hash("token-" + i)), "missed token-" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsNearTheTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(BloomFilter.hash("token-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(BloomFilter.hash("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        // Rounding the size up to a power of two only lowers the rate
+        assertTrue(falsePositives < 100_000 * 0.02, falsePositives + " false positives");
+    }
+
+    @Test
+    void hashDependsOnEveryCharacter() {
+        assertTrue(BloomFilter.hash("abc") != BloomFilter.hash("acb"));
+        assertTrue(BloomFilter.hash("") != BloomFilter.hash("a"));
+    }
+}
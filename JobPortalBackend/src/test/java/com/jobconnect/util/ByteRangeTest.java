@@ -0,0 +1,44 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class ByteRangeTest {
+
+    @Test
+    void parsesClosedAndOpenRanges() {
+        assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=0-99", 1000));
+        assertEquals(new ByteRange(500, 999), ByteRange.parse("bytes=500-", 1000));
+        assertEquals(100, ByteRange.parse("bytes=0-99", 1000).length());
+    }
+
+    @Test
+    void clampsEndToSize() {
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-5000", 1000));
+    }
+
+    @Test
+    void suffixRangeCountsFromTheEnd() {
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", 1000));
+        assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", 1000));
+    }
+
+    @Test
+    void rangesPastTheEndAreUnsatisfiable() {
+        assertEquals(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+        assertEquals(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+        assertEquals(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-10", 0));
+    }
+
+    @Test
+    void malformedOrMultipleRangesMeanWholeFile() {
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-9", 1000));
+        assertNull(ByteRange.parse("bytes=0-9,20-29", 1000));
+        assertNull(ByteRange.parse("bytes=9-0", 1000));
+        assertNull(ByteRange.parse("bytes=abc", 1000));
+        assertNull(ByteRange.parse("bytes=a-b", 1000));
+    }
+}
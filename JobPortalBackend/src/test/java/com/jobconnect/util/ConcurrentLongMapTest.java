@@ -0,0 +1,106 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongMapTest {
+
+    @Test
+    void keepsEveryEntryAcrossResizes() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+        for (long key = 1; key <= 10_000; key++) {
+            map.computeIfAbsent(key, Long::toString);
+        }
+
+        assertEquals(10_000, map.size());
+        for (long key = 1; key <= 10_000; key++) {
+            assertEquals(Long.toString(key), map.get(key));
+        }
+        assertNull(map.get(10_001));
+    }
+
+    @Test
+    void computeIfAbsentCallsFactoryOnce() {
+        ConcurrentLongMap<Object> map = new ConcurrentLongMap<>(16);
+        AtomicInteger calls = new AtomicInteger();
+
+        Object first = map.computeIfAbsent(-7, key -> { calls.incrementAndGet(); return new Object(); });
+        Object second = map.computeIfAbsent(-7, key -> { calls.incrementAndGet(); return new Object(); });
+
+        assertSame(first, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void putReplacesExistingValue() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(16);
+
+        assertNull(map.put(5, "a"));
+        assertEquals("a", map.put(5, "b"));
+        assertEquals("b", map.get(5));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void forEachVisitsEveryEntry() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(16);
+        for (long key = 1; key <= 100; key++) {
+            map.computeIfAbsent(key, key2 -> key2 * 2);
+        }
+
+        Map<Long, Long> seen = new HashMap<>();
+        map.forEach(seen::put);
+
+        assertEquals(100, seen.size());
+        assertEquals(84L, seen.get(42L));
+    }
+
+    @Test
+    void zeroKeyIsRejected() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(16);
+
+        assertThrows(IllegalArgumentException.class, () -> map.computeIfAbsent(0, Long::toString));
+    }
+
+    @Test
+    void concurrentInsertsAgreeOnOneValuePerKey() throws Exception {
+        ConcurrentLongMap<Object> map = new ConcurrentLongMap<>(16);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] tasks = new Future<?>[4];
+            Object[][] results = new Object[4][];
+            for (int t = 0; t < tasks.length; t++) {
+                int thread = t;
+                results[t] = new Object[5_000];
+                tasks[t] = pool.submit(() -> {
+                    for (int key = 1; key <= 5_000; key++) {
+                        results[thread][key - 1] = map.computeIfAbsent(key, k -> new Object());
+                    }
+                });
+            }
+            for (Future<?> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(5_000, map.size());
+            for (int key = 1; key <= 5_000; key++) {
+                for (Object[] result : results) {
+                    assertSame(map.get(key), result[key - 1]);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUndercountsAndStaysWithinTheErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        Map<Long, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+        long total = 0;
+        for (int i = 0; i < 100_000; i++) {
+            // Skewed keys, like job activity: a few hot jobs and a long tail
+            long key = 1 + (long) Math.abs(random.nextGaussian() * 500);
+            long weight = 1 + random.nextInt(5);
+            sketch.add(key, weight);
+            exact.merge(key, weight, Long::sum);
+            total += weight;
+        }
+
+        // The bound holds for all but about e^-depth of keys
+        long allowed = (long) Math.ceil(Math.E / 1024 * total);
+        int overBound = 0;
+        for (Map.Entry<Long, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate >= entry.getValue(), "undercounted key " + entry.getKey());
+            if (estimate - entry.getValue() > allowed) {
+                overBound++;
+            }
+        }
+        assertTrue(overBound <= exact.size() * Math.exp(-4), overBound + " keys over the error bound");
+    }
+
+    @Test
+    void unseenKeyOnEmptySketchIsZero() {
+        assertEquals(0, new CountMinSketch(4, 64).estimate(7));
+    }
+
+    @Test
+    void rejectsEmptyDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 0));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void reportsTheLineEachRecordStartsOn() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(
+            new StringReader("title,description\r\n\r\nA,\"two\nlines\"\rB,x\n"), 1000);
+
+        assertEquals(List.of("title", "description"), csv.next());
+        assertEquals(1, csv.getRecordLine());
+        assertEquals(List.of("A", "two\nlines"), csv.next());
+        assertEquals(3, csv.getRecordLine());
+        assertEquals(List.of("B", "x"), csv.next());
+        assertEquals(5, csv.getRecordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void rejectsARecordLongerThanTheLimit() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("a,b\n\"unterminated," + "x".repeat(100)), 20);
+
+        assertEquals(List.of("a", "b"), csv.next());
+        IOException e = assertThrows(IOException.class, csv::next);
+        assertEquals("The record on line 2 is longer than 20 characters", e.getMessage());
+    }
+}
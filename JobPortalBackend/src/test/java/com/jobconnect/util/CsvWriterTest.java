@@ -0,0 +1,31 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class CsvWriterTest {
+
+    @Test
+    void quotesFieldsThatNeedIt() throws IOException {
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\r\n", write("plain", "a,b", "say \"hi\"", null));
+    }
+
+    @Test
+    void prefixesTextThatWouldOpenAsAFormula() throws IOException {
+        assertEquals("'=SUM(A1),'+1,'-2,'@cmd,'\tx,\"'\rx\"\r\n", write("=SUM(A1)", "+1", "-2", "@cmd", "\tx", "\rx"));
+    }
+
+    @Test
+    void leavesNegativeNumbersNumeric() throws IOException {
+        assertEquals("-5,-1.5\r\n", write(-5, -1.5));
+    }
+
+    private static String write(Object... values) throws IOException {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(values);
+        return out.toString();
+    }
+}
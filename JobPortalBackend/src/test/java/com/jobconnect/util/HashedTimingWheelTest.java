@@ -0,0 +1,82 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, 0);
+
+    @Test
+    void firesAtItsDeadlineAndNotBefore() {
+        wheel.schedule("a", 25);
+
+        assertEquals(List.of(), wheel.advance(29));
+        assertEquals(List.of("a"), wheel.advance(30));
+        assertEquals(List.of(), wheel.advance(100));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        wheel.advance(50);
+        wheel.schedule("late", 0);
+
+        assertEquals(List.of("late"), wheel.advance(60));
+    }
+
+    @Test
+    void cancelRemovesTimer() {
+        wheel.schedule("a", 20);
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of(), wheel.advance(100));
+    }
+
+    @Test
+    void reschedulingMovesTheExistingTimer() {
+        wheel.schedule("a", 20);
+        wheel.schedule("a", 60);
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advance(50));
+        assertEquals(List.of("a"), wheel.advance(60));
+    }
+
+    @Test
+    void timersBeyondOneRotationWaitForTheirTick() {
+        // 8 buckets of 10 ms: 130 ms shares a bucket with 50 ms
+        wheel.schedule("near", 50);
+        wheel.schedule("far", 130);
+
+        assertEquals(List.of("near"), wheel.advance(50));
+        assertEquals(List.of(), wheel.advance(120));
+        assertEquals(List.of("far"), wheel.advance(130));
+    }
+
+    @Test
+    void stallLongerThanOneRotationFiresEverythingDue() {
+        Set<String> scheduled = new HashSet<>();
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule("t" + i, i * 10L);
+            scheduled.add("t" + i);
+        }
+        wheel.schedule("later", 1_000);
+
+        assertEquals(scheduled, new HashSet<>(wheel.advance(500)));
+        assertEquals(List.of("later"), wheel.advance(1_000));
+    }
+
+    @Test
+    void rejectsWheelSizeThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(10, 6, 0));
+    }
+}
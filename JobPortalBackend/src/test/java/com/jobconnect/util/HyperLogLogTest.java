@@ -0,0 +1,68 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        // About 3% standard error; 4 standard errors keeps the test deterministic in practice
+        for (int distinct : new int[] {10, 100, 1_000, 10_000, 100_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (long i = 1; i <= distinct; i++) {
+                sketch.add(HyperLogLog.hash(i));
+            }
+            double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+            assertTrue(error < 0.13, distinct + " items estimated as " + sketch.estimate());
+        }
+    }
+
+    @Test
+    void repeatedItemsAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertTrue(sketch.add(HyperLogLog.hash(42)));
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(sketch.add(HyperLogLog.hash(42)));
+        }
+        assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    void mergeMatchesSketchOfTheUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (long i = 1; i <= 5_000; i++) {
+            (i % 2 == 0 ? left : right).add(HyperLogLog.hash(i));
+            union.add(HyperLogLog.hash(i));
+        }
+
+        left.merge(right);
+        assertEquals(union.estimate(), left.estimate());
+
+        // Merging is idempotent, so a stored sketch can be merged again
+        left.merge(right.toByteArray());
+        assertEquals(union.estimate(), left.estimate());
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = 1; i <= 1_000; i++) {
+            sketch.add(HyperLogLog.hash(i));
+        }
+
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(sketch.toByteArray()).estimate());
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new byte[7]));
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RawJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesBytesVerbatim() throws Exception {
+        RawJson job = new RawJson("{\"id\":1,\"title\":\"Café \\\"lead\\\"\"}".getBytes(StandardCharsets.UTF_8));
+
+        String json = objectMapper.writeValueAsString(Map.of("jobs", List.of(job, job)));
+
+        assertEquals("{\"jobs\":[{\"id\":1,\"title\":\"Café \\\"lead\\\"\"},{\"id\":1,\"title\":\"Café \\\"lead\\\"\"}]}", json);
+    }
+
+    @Test
+    void quotedFormsMatchJacksonEscaping() throws Exception {
+        String text = "{\"a\":\"x\\ty\"}\né";
+        SerializableString raw = rawString(text);
+        SerializableString expected = new SerializedString(text);
+
+        assertArrayEquals(expected.asQuotedUTF8(), raw.asQuotedUTF8());
+        assertArrayEquals(expected.asQuotedChars(), raw.asQuotedChars());
+
+        byte[] bytes = new byte[64];
+        int written = raw.appendQuotedUTF8(bytes, 2);
+        assertEquals(expected.asQuotedUTF8().length, written);
+        assertEquals(-1, raw.appendQuotedUTF8(new byte[4], 0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        raw.writeQuotedUTF8(out);
+        assertArrayEquals(expected.asQuotedUTF8(), out.toByteArray());
+    }
+
+    @Test
+    void canBeWrittenAsAFieldName() throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(rawString("a\"b"));
+            generator.writeNumber(1);
+            generator.writeEndObject();
+        }
+
+        assertEquals("{\"a\\\"b\":1}", out.toString());
+    }
+
+    private static SerializableString rawString(String text) {
+        return new RawJson.Utf8Bytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
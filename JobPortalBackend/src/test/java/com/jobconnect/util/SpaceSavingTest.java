@@ -0,0 +1,63 @@
+package com.jobconnect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsExactlyWhileUnderCapacity() {
+        SpaceSaving summary = new SpaceSaving(4);
+        summary.offer(1, 5);
+        summary.offer(2, 3);
+        summary.offer(1, 1);
+
+        assertEquals(Map.of(1L, 6L, 2L, 3L), summary.counts());
+    }
+
+    @Test
+    void keepsHeavyHittersAndNeverUndercountsThem() {
+        SpaceSaving summary = new SpaceSaving(10);
+        Map<Long, Long> exact = new HashMap<>();
+        long total = 0;
+        for (int round = 0; round < 200; round++) {
+            // Three hot keys among a stream of keys seen once each
+            for (long hot = 1; hot <= 3; hot++) {
+                summary.offer(hot, 5);
+                exact.merge(hot, 5L, Long::sum);
+                total += 5;
+            }
+            long cold = 1_000 + round;
+            summary.offer(cold, 1);
+            exact.merge(cold, 1L, Long::sum);
+            total++;
+        }
+
+        assertEquals(10, summary.size());
+        Map<Long, Long> counts = summary.counts();
+        for (Map.Entry<Long, Long> entry : exact.entrySet()) {
+            if (entry.getValue() > total / 10) {
+                assertTrue(counts.containsKey(entry.getKey()), "heavy key " + entry.getKey() + " dropped");
+            }
+            if (counts.containsKey(entry.getKey())) {
+                assertTrue(counts.get(entry.getKey()) >= entry.getValue());
+            }
+        }
+        // An evicted counter's weight moves to its replacement, so the counts always add up to the total
+        assertEquals(total, counts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void newKeyTakesOverTheSmallestCounter() {
+        SpaceSaving summary = new SpaceSaving(2);
+        summary.offer(1, 10);
+        summary.offer(2, 3);
+        summary.offer(3, 1);
+
+        assertEquals(Map.of(1L, 10L, 3L, 4L), summary.counts());
+    }
+}
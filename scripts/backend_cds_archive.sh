@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Builds the backend with Spring AOT, unpacks the jar and records an AppCDS
+# archive from a training run that exits as soon as the application is ready.
+# The training run starts the full application, so the database in
+# application.properties (or SPRING_DATASOURCE_* variables) must be reachable.
+#
+# Output in JobPortalBackend/target/app:
+#   launch.args  classpath and main class, for `java @launch.args`
+#   app.jsa      the CDS archive
+#
+# Run the result from that directory:
+#   java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+#        -Dspring.profiles.active=prod @launch.args
+set -euo pipefail
+
+BACKEND_DIR="$(cd "$(dirname "$0")/../JobPortalBackend" && pwd)"
+APP_DIR="$BACKEND_DIR/target/app"
+
+(cd "$BACKEND_DIR" && mvn -B -q -Paot -DskipTests package)
+
+rm -rf "$APP_DIR"
+mkdir -p "$APP_DIR"
+(cd "$APP_DIR" && jar -xf "$BACKEND_DIR"/target/jobportal-backend-*.jar)
+
+# CDS only archives classes from plain jars and directories, so launch from the
+# unpacked layout with a fixed, explicit classpath instead of the nested fat jar.
+{
+    printf -- '-cp BOOT-INF/classes'
+    (cd "$APP_DIR" && ls BOOT-INF/lib/*.jar | sort) | while read -r jar; do printf ':%s' "$jar"; done
+    printf '\ncom.jobconnect.JobconnectApplication\n'
+} > "$APP_DIR/launch.args"
+
+cd "$APP_DIR"
+java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=prod \
+    -Djobconnect.startup.exit-when-ready=true \
+    @launch.args --server.port=0
+
+echo "CDS archive written to $APP_DIR/app.jsa"
@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Measures backend time-to-first-request: wall time from launching the JVM
+# until GET /api/jobs?size=1 succeeds. Each mode runs RUNS times (default 5)
+# on PORT (default 19091) and reports min and median milliseconds.
+#
+# Modes:
+#   jar  the plain fat jar (target/jobportal-backend-*.jar)
+#   aot  the unpacked AOT build from scripts/backend_cds_archive.sh
+#   cds  the same with the CDS archive
+#
+# Usage: scripts/backend_startup_benchmark.sh [jar] [aot] [cds]
+set -euo pipefail
+
+BACKEND_DIR="$(cd "$(dirname "$0")/../JobPortalBackend" && pwd)"
+APP_DIR="$BACKEND_DIR/target/app"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-19091}"
+MODES=("$@")
+[ ${#MODES[@]} -eq 0 ] && MODES=(jar aot cds)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+launch() {
+    case "$1" in
+        jar) (cd "$BACKEND_DIR" && exec java -Dspring.profiles.active=prod \
+                -jar "$(ls target/jobportal-backend-*.jar | head -n 1)" --server.port="$PORT") ;;
+        aot) (cd "$APP_DIR" && exec java -Dspring.aot.enabled=true -Dspring.profiles.active=prod \
+                @launch.args --server.port="$PORT") ;;
+        cds) (cd "$APP_DIR" && exec java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+                -Dspring.profiles.active=prod @launch.args --server.port="$PORT") ;;
+        *) echo "unknown mode: $1" >&2; exit 2 ;;
+    esac
+}
+
+for mode in "${MODES[@]}"; do
+    times=()
+    for ((run = 1; run <= RUNS; run++)); do
+        start=$(now_ms)
+        launch "$mode" > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "http://localhost:$PORT/api/jobs?size=1"; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$mode: application exited before serving a request" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        times+=($(( $(now_ms) - start )))
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    printf '%-4s runs=%d min=%dms median=%dms\n' "$mode" "$RUNS" "${sorted[0]}" "${sorted[$((RUNS / 2))]}"
+done